@@ -0,0 +1,80 @@
+import Strategy.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+// 실행 백엔드 비교: 같은 게임 묶음을 백엔드마다 실행해 초당 게임 수를 비교 (하드웨어에 맞는 백엔드 고르기용)
+// - 백엔드마다 처리량 기반 크기 조정(ExecutionBackend.record)을 거친 뒤의 처리량을 잼
+// - 결과는 백엔드와 무관해야 하므로 점수판 합도 비교
+// 실행: java BackendBenchmark [게임 수] [반복 횟수]
+public class BackendBenchmark {
+    private static final int ROUNDS = 100;
+    private static final Strategy[] ROSTER = {
+        new AlwaysCooperate(), new ContriteTitForTat(), new Debt(), new DiscountFactor(), new DynamicTitForTat(),
+        new EnhancedTitForTat(), new ForgivingTitForTat(), new GlassMind(), new Gradual(), new GrimTrigger(),
+        new GuidingCooperator(), new HardTitForTat(), new OmegaTitForTat(), new PatternBreaker(), new Pavlov(),
+        new Predictor(), new Saint(), new ScammerTester(), new Shepherd(), new TitForTat()
+    };
+
+    public static void main(String[] args) throws Exception {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        int repeats = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+
+        Long expected = null;
+        for (ExecutionBackend.Kind kind : ExecutionBackend.Kind.values()) {
+            try (ExecutionBackend backend = ExecutionBackend.create(kind)) {
+                double best = 0;
+                long checksum = 0;
+                for (int r = 0; r <= repeats; r++) { // 첫 회는 워밍업
+                    long start = System.nanoTime();
+                    checksum = run(backend, games);
+                    long nanos = System.nanoTime() - start;
+                    backend.record(games, (long) games * ROSTER.length * (ROSTER.length - 1) / 2, nanos);
+                    if (r > 0) {
+                        best = Math.max(best, games / (nanos / 1e9));
+                    }
+                }
+                if (expected != null && checksum != expected) {
+                    throw new IllegalStateException("Results differ on " + backend.name());
+                }
+                expected = checksum;
+                System.out.printf("%s: %.0f게임/초%n", backend.label(), best);
+            }
+        }
+    }
+
+    // games개 게임의 점수판 합 (게임 g의 시드 = g)
+    private static long run(ExecutionBackend backend, int games) throws Exception {
+        Deque<List<Player>> rosters = new ConcurrentLinkedDeque<>();
+        List<Future<Long>> futures = new ArrayList<>();
+        for (int g = 0; g < games; g++) {
+            long seed = g;
+            futures.add(backend.submit(() -> {
+                List<Player> players = rosters.poll();
+                if (players == null) {
+                    players = new ArrayList<>();
+                    for (Strategy strategy : ROSTER) {
+                        players.add(new Player(players.size(), strategy.getClass().getSimpleName(), strategy.cloneStrategy()));
+                    }
+                }
+                for (Player p : players) {
+                    p.reset();
+                }
+                Game game = new Game(players, ROUNDS, seed);
+                game.playAndGetResults();
+                long sum = 0;
+                for (int i = 0; i < ROSTER.length; i++) {
+                    for (int j = 0; j < ROSTER.length; j++) {
+                        sum = sum * 31 + game.getPairScore(i, j);
+                    }
+                }
+                rosters.push(players);
+                return sum;
+            }));
+        }
+        long total = 0;
+        for (Future<Long> future : futures) {
+            total = total * 31 + future.get();
+        }
+        return total;
+    }
+}
@@ -0,0 +1,98 @@
+import Strategy.*;
+import java.util.*;
+
+// 라운드 단위 실행에서 일괄 결정(BatchChoice)을 제공하는 플레이어들의 상대별 배열
+// - 라운드 시작에 그런 플레이어마다 chooseAll을 한 번 호출해 모든 상대에 대한 행동을 미리 정함
+// - 상대 쌍 내부 정보만 쓰는 전략은 이번 라운드의 다른 쌍 결과를 읽지 않으므로, 미리 정해도 choose() 호출과 결과가 같음
+// - 상대 순번 k = 그 플레이어가 실제로 경기하는(제외되지 않은) 상대들을 번호 순으로 늘어놓은 순서
+final class BatchDecisions {
+    private final int size;
+    private final BatchChoice[] choices;     // [i], 일괄 결정을 쓰지 않으면 null
+    private final int[] slots;               // [i * size + j] = i번이 본 j번의 상대 순번 (-1 = 해당 없음)
+    private final boolean[][] lastMyMoves;   // [i][k]
+    private final boolean[][] lastOpponentMoves;
+    private final boolean[][] decisions;
+
+    private BatchDecisions(int size) {
+        this.size = size;
+        this.choices = new BatchChoice[size];
+        this.slots = new int[size * size];
+        this.lastMyMoves = new boolean[size][];
+        this.lastOpponentMoves = new boolean[size][];
+        this.decisions = new boolean[size][];
+        Arrays.fill(slots, -1);
+    }
+
+    // 일괄 결정을 쓸 플레이어가 없으면 null
+    // excluded[i * size + j] (i < j): 게임에서 제외된 쌍
+    static BatchDecisions of(List<Player> players, boolean[] excluded) {
+        int size = players.size();
+        BatchDecisions batch = null;
+        for (int i = 0; i < size; i++) {
+            Strategy strategy = players.get(i).getStrategy();
+            if (!strategy.isPairLocal()) {
+                continue;
+            }
+            int opponents = 0;
+            for (int j = 0; j < size; j++) {
+                if (j != i && !excluded[Math.min(i, j) * size + Math.max(i, j)]) {
+                    opponents++;
+                }
+            }
+            BatchChoice choice = opponents > 0 ? strategy.newBatchChoice(opponents) : null;
+            if (choice == null) {
+                continue;
+            }
+            if (batch == null) {
+                batch = new BatchDecisions(size);
+            }
+            batch.add(i, choice, opponents, excluded);
+        }
+        return batch;
+    }
+
+    private void add(int i, BatchChoice choice, int opponents, boolean[] excluded) {
+        choices[i] = choice;
+        lastMyMoves[i] = new boolean[opponents];
+        lastOpponentMoves[i] = new boolean[opponents];
+        decisions[i] = new boolean[opponents];
+        int k = 0;
+        for (int j = 0; j < size; j++) {
+            if (j != i && !excluded[Math.min(i, j) * size + Math.max(i, j)]) {
+                slots[i * size + j] = k++;
+            }
+        }
+    }
+
+    // 라운드 시작: 일괄 결정을 쓰는 플레이어마다 모든 상대에 대한 행동을 정함
+    void decide(int round) {
+        for (int i = 0; i < size; i++) {
+            if (choices[i] != null) {
+                choices[i].chooseAll(round, lastMyMoves[i], lastOpponentMoves[i], decisions[i]);
+            }
+        }
+    }
+
+    boolean has(int i) {
+        return choices[i] != null;
+    }
+
+    // i번이 이번 라운드에 j번에게 할 행동 (has(i)일 때만)
+    boolean decision(int i, int j) {
+        return decisions[i][slots[i * size + j]];
+    }
+
+    // i번과 j번의 이번 라운드에 실제로 실행된 행동 기록 (다음 라운드의 chooseAll 입력)
+    void record(int i, int j, boolean move1, boolean move2) {
+        if (choices[i] != null) {
+            int k = slots[i * size + j];
+            lastMyMoves[i][k] = move1;
+            lastOpponentMoves[i][k] = move2;
+        }
+        if (choices[j] != null) {
+            int k = slots[j * size + i];
+            lastMyMoves[j][k] = move2;
+            lastOpponentMoves[j][k] = move1;
+        }
+    }
+}
@@ -0,0 +1,209 @@
+import Strategy.*;
+import java.util.*;
+
+// 비트 단위 일괄 실행: 한 상대 쌍의 게임 64개를 long 하나의 비트(레인)로 묶어 한 번에 진행
+// - 두 전략이 모두 BitSliced를 제공하고 MarkovEvaluator가 계산하지 않는 쌍이 대상
+// - 라운드마다 비트 연산으로 64게임의 행동을 내고 Long.bitCount로 점수를 셈 (choose() 호출 없음)
+// - 노이즈: 레인마다 독립적으로 플레이어별 확률(Game.noiseOf), (라운드, 레인) 비트열 위에서 기하분포 간격으로 뒤집을 위치를 뽑음
+// - JDK Vector API(jdk.incubator.vector)는 실행 시 모듈 옵션이 필요해 쓰지 않음: long 하나 = 64레인
+// - 이런 쌍은 Game에서 제외하고(exclude), 시뮬레이터가 결과를 합침
+// - 게임을 구간 단위로 나눠 이어서 실행할 수 있음 (순차 정지): 64게임 묶음은 한 번만 실행해 쌍별로 행동을 보관하고
+//   구간에 든 레인만 집계하므로, 구간 경계와 무관하게 [0, n)을 한 번에 실행한 것과 결과가 같음
+class BatchEngine {
+    private final List<Player> players;
+    private final int rounds;
+    private final int size;
+    private final boolean[] batched;   // batched[i * size + j] (i < j)
+    private final long[] pairScores;   // 모든 게임의 합: pairScores[i * size + j] = i번이 j번에게서 얻은 점수
+    private final long[] roundTotals;  // 모든 게임의 합: roundTotals[(round - 1) * size + i]
+    private final Payoff payoff;
+    private final SplittableRandom[] noises; // 쌍별 노이즈 스트림 [i * size + j], 처음 실행할 때 만듦
+    private final long[][] laneMoves;        // 쌍별로 보관한 현재 묶음의 라운드별 행동 [i * size + j] (playLanes 참고)
+    private int block = -1;                  // laneMoves에 든 묶음 번호 (게임 번호 / 64, 아직 없으면 -1)
+
+    // evaluator가 기대 점수를 계산하는 쌍은 제외 (evaluator가 null이면 가능한 모든 쌍)
+    BatchEngine(List<Player> players, int rounds, MarkovEvaluator evaluator, Payoff payoff) {
+        this.players = players;
+        this.payoff = payoff;
+        this.rounds = rounds;
+        this.size = players.size();
+        this.batched = new boolean[size * size];
+        this.pairScores = new long[size * size];
+        this.roundTotals = new long[rounds * size];
+        this.noises = new SplittableRandom[size * size];
+        this.laneMoves = new long[size * size][];
+        for (int i = 0; i < size; i++) {
+            for (int j = i + 1; j < size; j++) {
+                batched[i * size + j] = players.get(i).getStrategy().bitSliced() != null
+                    && players.get(j).getStrategy().bitSliced() != null
+                    && (evaluator == null || !evaluator.isAnalytic(i, j));
+            }
+        }
+    }
+
+    // 대상 쌍마다 games개의 게임을 64개씩 묶어 실행 (쌍의 노이즈 스트림은 seed와 두 플레이어 id로 정함)
+    void play(int games, long seed) {
+        play(0, games, seed, null);
+    }
+
+    // 게임 [from, to)를 실행 (이어서 호출하면 같은 seed, from == 이전 호출의 to여야 함)
+    // 64게임 묶음은 처음 필요할 때 한 번만 실행해 행동을 보관하고, 구간에 든 레인(게임)만 집계
+    // gameTotals가 null이 아니면 gameTotals[게임 - from][i]에 게임별 i번 플레이어의 점수를 더함 (레인별 집계, 조금 느림)
+    void play(int from, int to, long seed, long[][] gameTotals) {
+        for (int first = from; first < to; ) {
+            int current = first / BitSliced.LANES;
+            if (current < block) {
+                throw new IllegalStateException("Batch games must be played in order: " + first);
+            }
+            int base = current * BitSliced.LANES;
+            int end = Math.min(to, base + BitSliced.LANES);
+            int lo = first - base;
+            int hi = end - base;
+            long live = (hi == BitSliced.LANES ? -1L : (1L << hi) - 1) & (-1L << lo);
+            for (int i = 0; i < size; i++) {
+                for (int j = i + 1; j < size; j++) {
+                    if (!batched[i * size + j]) {
+                        continue;
+                    }
+                    if (current != block) {
+                        if (noises[i * size + j] == null) {
+                            noises[i * size + j] = new SplittableRandom(
+                                Seeds.derive(seed, Seeds.BATCH_STREAM, players.get(i).getId(), players.get(j).getId()));
+                            laneMoves[i * size + j] = new long[2 * rounds];
+                        }
+                        playLanes(i, j, noises[i * size + j], laneMoves[i * size + j]);
+                    }
+                    long[][] counters = gameTotals == null ? null : new long[3][BitSliced.counterPlanes(rounds)];
+                    addLanes(i, j, laneMoves[i * size + j], live, counters);
+                    if (counters != null) {
+                        addLaneTotals(i, j, counters, lo, hi, gameTotals, base - from);
+                    }
+                }
+            }
+            block = current;
+            first = end;
+        }
+    }
+
+    // 레인별 행동 조합 횟수로 게임별 점수를 계산해 더함 (레인 [lo, hi), 레인 l은 gameTotals[offset + l])
+    private void addLaneTotals(int i, int j, long[][] counters, int lo, int hi, long[][] gameTotals, int offset) {
+        int cc = payoff.points(true, true);
+        int cd = payoff.points(true, false);
+        int dc = payoff.points(false, true);
+        int dd = payoff.points(false, false);
+        for (int lane = lo; lane < hi; lane++) {
+            int bothCooperate = laneCount(counters[0], lane);
+            int onlyFirst = laneCount(counters[1], lane);
+            int onlySecond = laneCount(counters[2], lane);
+            int bothDefect = rounds - bothCooperate - onlyFirst - onlySecond;
+            long[] totals = gameTotals[offset + lane];
+            totals[i] += cc * bothCooperate + cd * onlyFirst + dc * onlySecond + dd * bothDefect;
+            totals[j] += cc * bothCooperate + dc * onlyFirst + cd * onlySecond + dd * bothDefect;
+        }
+    }
+
+    // 비트 평면 카운터에서 한 레인의 값
+    private static int laneCount(long[] planes, int lane) {
+        int count = 0;
+        for (int k = 0; k < planes.length; k++) {
+            count |= (int) ((planes[k] >>> lane) & 1L) << k;
+        }
+        return count;
+    }
+
+    // 64게임 묶음 하나를 끝까지 진행해 라운드별 행동을 moves에 보관: moves[2 * (round - 1)] = i번, + 1 = j번
+    private void playLanes(int i, int j, SplittableRandom noise, long[] moves) {
+        BitSliced sliced1 = players.get(i).getStrategy().bitSliced();
+        BitSliced sliced2 = players.get(j).getStrategy().bitSliced();
+        long[] state1 = new long[sliced1.planes(rounds)];
+        long[] state2 = new long[sliced2.planes(rounds)];
+        sliced1.init(state1);
+        sliced2.init(state2);
+
+        // 다음에 뒤집힐 비트 위치 = 라운드 * 64 + 레인
+        double noise1 = Game.noiseOf(players.get(i));
+        double noise2 = Game.noiseOf(players.get(j));
+        long flip1 = Game.noiseGap(noise, noise1) - 1;
+        long flip2 = Game.noiseGap(noise, noise2) - 1;
+        for (int round = 1; round <= rounds; round++) {
+            long end = (long) round * BitSliced.LANES;
+            long flips1 = 0L, flips2 = 0L;
+            for (; flip1 < end; flip1 += Game.noiseGap(noise, noise1)) {
+                flips1 |= 1L << (flip1 % BitSliced.LANES);
+            }
+            for (; flip2 < end; flip2 += Game.noiseGap(noise, noise2)) {
+                flips2 |= 1L << (flip2 % BitSliced.LANES);
+            }
+            long move1 = sliced1.cooperate(state1) ^ flips1;
+            long move2 = sliced2.cooperate(state2) ^ flips2;
+            moves[2 * (round - 1)] = move1;
+            moves[2 * (round - 1) + 1] = move2;
+
+            sliced1.update(state1, move1, move2);
+            sliced2.update(state2, move2, move1);
+        }
+    }
+
+    // 보관한 행동 중 live 레인의 점수를 더함
+    // counters가 null이 아니면 레인별 (C, C), (C, D), (D, C) 횟수를 비트 평면 카운터로 셈
+    private void addLanes(int i, int j, long[] moves, long live, long[][] counters) {
+        // 행동 조합별 점수 (p1 기준; p2는 CD/DC가 뒤바뀜)
+        int cc = payoff.points(true, true);
+        int cd = payoff.points(true, false);
+        int dc = payoff.points(false, true);
+        int dd = payoff.points(false, false);
+        long score1 = 0, score2 = 0;
+        for (int round = 1; round <= rounds; round++) {
+            long move1 = moves[2 * (round - 1)];
+            long move2 = moves[2 * (round - 1) + 1];
+            int bothCooperate = Long.bitCount(move1 & move2 & live);
+            int onlyFirst = Long.bitCount(move1 & ~move2 & live);
+            int onlySecond = Long.bitCount(~move1 & move2 & live);
+            int bothDefect = Long.bitCount(~move1 & ~move2 & live);
+            int p1Points = cc * bothCooperate + cd * onlyFirst + dc * onlySecond + dd * bothDefect;
+            int p2Points = cc * bothCooperate + dc * onlyFirst + cd * onlySecond + dd * bothDefect;
+            roundTotals[(round - 1) * size + i] += p1Points;
+            roundTotals[(round - 1) * size + j] += p2Points;
+            score1 += p1Points;
+            score2 += p2Points;
+            if (counters != null) {
+                BitSliced.increment(counters[0], counters[0].length, move1 & move2 & live);
+                BitSliced.increment(counters[1], counters[1].length, move1 & ~move2 & live);
+                BitSliced.increment(counters[2], counters[2].length, ~move1 & move2 & live);
+            }
+        }
+        pairScores[i * size + j] += score1;
+        pairScores[j * size + i] += score2;
+    }
+
+    boolean isBatched(int i, int j) {
+        return batched[Math.min(i, j) * size + Math.max(i, j)];
+    }
+
+    // i번과 j번 플레이어의 쌍을 일괄 실행에서 뺌 (결과가 필요 없는 쌍, 실행 전에 호출)
+    // 쌍마다 노이즈 스트림이 따로이므로 남은 쌍의 결과는 빼기 전과 같음
+    void exclude(int i, int j) {
+        batched[Math.min(i, j) * size + Math.max(i, j)] = false;
+    }
+
+    // 일괄 실행한 쌍을 게임에서 제외 (같은 플레이어 순서로 만든 Game이어야 함)
+    void excludeFrom(Game game) {
+        for (int i = 0; i < size; i++) {
+            for (int j = i + 1; j < size; j++) {
+                if (batched[i * size + j]) {
+                    game.exclude(i, j);
+                }
+            }
+        }
+    }
+
+    // i번 플레이어가 j번 플레이어에게서 얻은 점수 (모든 게임의 합)
+    long getPairScore(int i, int j) {
+        return pairScores[i * size + j];
+    }
+
+    // i번 플레이어가 해당 라운드(1부터 시작)에 일괄 실행 쌍에서 얻은 점수 (모든 게임의 합)
+    long getRoundScore(int round, int i) {
+        return roundTotals[(round - 1) * size + i];
+    }
+}
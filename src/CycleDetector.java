@@ -0,0 +1,73 @@
+import Strategy.*;
+import java.util.*;
+
+// 한 상대 쌍의 주기 탐지기 (상대 쌍 단위 실행에서 사용)
+// - 라운드 시작 전 상태 = 최근 depth 라운드의 양쪽 행동 + 두 전략의 stateFingerprint
+// - 같은 상태가 다시 나오면 두 결정적 전략은 그 사이의 행동을 그대로 반복함 (노이즈가 없는 동안)
+// - 관측한 라운드의 결과를 순서대로 보관해 주기 구간의 행동을 돌려줌
+class CycleDetector {
+    static final int MAX_DEPTH = 32; // 최근 행동을 long 하나(라운드당 2비트)에 담을 수 있는 깊이
+    private static final int MAX_TRACKED = 1024; // 이 라운드 수 안에 주기가 없으면 비우고 다시 시작
+
+    private record State(long recentMoves, int known, long fingerprint1, long fingerprint2) {
+    }
+
+    private final int depth;
+    private final boolean fromSecond; // 기록을 더 길게 보관하는 쪽(두 번째 플레이어)의 기록으로 읽을지 여부
+    private final Map<State, Integer> seen = new HashMap<>();
+    private byte[] outcomes = new byte[64]; // outcomes[round - firstRound] = 하위 비트 p1 행동, 상위 비트 p2 행동
+    private int firstRound;
+    private int count = 0;
+
+    CycleDetector(int depth1, int depth2) {
+        this.depth = Math.max(depth1, depth2);
+        this.fromSecond = depth2 > depth1;
+    }
+
+    static boolean supports(Strategy s1, Strategy s2) {
+        return Math.max(s1.historyDepth(), s2.historyDepth()) <= MAX_DEPTH;
+    }
+
+    // 라운드 시작 전 상태를 등록하고, 같은 상태였던 이전 라운드를 반환 (없으면 -1)
+    int observe(int round, PairHistory h1, PairHistory h2, long fingerprint1, long fingerprint2) {
+        if (count >= MAX_TRACKED) {
+            reset();
+        }
+        if (count == 0) {
+            firstRound = round;
+        }
+        PairHistory h = fromSecond ? h2 : h1;
+        int size = h.size();
+        int known = Math.min(size, depth);
+        long moves = 0L;
+        for (int k = size - known; k < size; k++) {
+            boolean move1 = fromSecond ? h.opponentMove(k) : h.myMove(k);
+            boolean move2 = fromSecond ? h.myMove(k) : h.opponentMove(k);
+            moves = (moves << 2) | (move1 ? 1L : 0L) | (move2 ? 2L : 0L);
+        }
+        Integer previous = seen.putIfAbsent(new State(moves, known, fingerprint1, fingerprint2), round);
+        return previous == null ? -1 : previous;
+    }
+
+    // observe() 직후 그 라운드의 실제 행동(노이즈 적용 후)을 기록
+    void played(boolean move1, boolean move2) {
+        if (count == outcomes.length) {
+            outcomes = Arrays.copyOf(outcomes, count * 2);
+        }
+        outcomes[count++] = (byte) ((move1 ? 1 : 0) | (move2 ? 2 : 0));
+    }
+
+    boolean move1(int round) {
+        return (outcomes[round - firstRound] & 1) != 0;
+    }
+
+    boolean move2(int round) {
+        return (outcomes[round - firstRound] & 2) != 0;
+    }
+
+    // 노이즈, 지문 미지원 라운드, 건너뛰기 이후에는 이전 상태와 이어지지 않으므로 처음부터 다시 탐지
+    void reset() {
+        seen.clear();
+        count = 0;
+    }
+}
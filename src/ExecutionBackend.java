@@ -0,0 +1,248 @@
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.concurrent.*;
+
+// 게임 실행 백엔드: 탈락 단계마다 스레드 풀을 새로 만들지 않고 실행 전체에서 하나를 유지
+// - FORK_JOIN: 작업 훔치기(work-stealing) 풀
+// - VIRTUAL: 게임마다 가상 스레드 하나 (JDK 21 이상, 없으면 고정 풀로 대체)
+// - FIXED: 고정 크기 스레드 풀
+// - 스레드 수는 처리량을 재서 정함: 탈락 단계마다 초당 경기(Game이 실제로 치른 상대 쌍) 수를 재고,
+//   스레드를 두 배로 늘려 나아지는 동안만 늘림 (단계의 게임 수보다 많이는 늘리지 않음)
+//   (첫 단계는 JIT 워밍업이라 제외, 탈락으로 로스터가 줄어도 비교할 수 있게 게임 대신 경기 수로 잼)
+//   결과는 스레드 수와 무관하므로 단계 사이에 바꿔도 됨
+abstract class ExecutionBackend implements AutoCloseable {
+    enum Kind {
+        FORK_JOIN, VIRTUAL, FIXED;
+
+        // 실행 인자 이름 (forkjoin, virtual, fixed)
+        static Kind parse(String name) {
+            for (Kind kind : values()) {
+                if (kind.name().replace("_", "").equalsIgnoreCase(name.trim().replace("-", ""))) {
+                    return kind;
+                }
+            }
+            throw new IllegalArgumentException("Unknown execution backend: " + name);
+        }
+    }
+
+    private static final double MIN_GAIN = 1.05; // 스레드를 늘려 처리량이 이만큼 나아져야 계속 늘림
+
+    private final int maxThreads;
+    private int threads;
+    private boolean tuning = true;
+    private boolean warmedUp = false;
+    private double bestRate = 0;      // 지금까지 가장 높은 초당 경기 수
+    private int bestThreads;
+    private long totalGames = 0;
+    private long totalNanos = 0;
+
+    private ExecutionBackend(int threads, int maxThreads) {
+        this.threads = threads;
+        this.bestThreads = threads;
+        this.maxThreads = maxThreads;
+    }
+
+    // 처음 스레드 수는 코어 수, 최대는 코어 수의 4배 (처리량이 늘어나는 동안만 키움)
+    static ExecutionBackend create(Kind kind) {
+        int cores = Runtime.getRuntime().availableProcessors();
+        return create(kind, cores, cores * 4);
+    }
+
+    // maxThreads == threads면 크기를 고정
+    static ExecutionBackend create(Kind kind, int threads, int maxThreads) {
+        switch (kind) {
+            case FORK_JOIN:
+                return new ForkJoin(threads, maxThreads);
+            case VIRTUAL:
+                ExecutorService virtual = newVirtualThreadPerTaskExecutor();
+                if (virtual != null) {
+                    return new Virtual(virtual);
+                }
+                System.out.println("가상 스레드를 지원하지 않는 JDK: 고정 스레드 풀로 실행");
+                return new Fixed(threads, maxThreads);
+            default:
+                return new Fixed(threads, maxThreads);
+        }
+    }
+
+    // JDK 21의 Executors.newVirtualThreadPerTaskExecutor (컴파일 대상이 JDK 17이므로 리플렉션으로 찾음, 없으면 null)
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    abstract String name();
+
+    abstract <T> Future<T> submit(Callable<T> task);
+
+    // 풀 크기를 바꿈 (진행 중인 작업이 없을 때만 호출)
+    abstract void resize(int threads);
+
+    // 보고에 쓰는 이름 (크기가 있는 풀은 스레드 수 포함)
+    String label() {
+        return name() + " (스레드 " + threads + ")";
+    }
+
+    // 탈락 단계 하나의 처리량 기록: games개 게임에서 Game이 치른 경기(상대 쌍) matches개에 nanos가 걸림
+    // (분석/일괄 실행으로 빠진 쌍은 matches에 넣지 않음) 조정 중이면 다음 단계의 스레드 수를 정함
+    void record(int games, long matches, long nanos) {
+        totalGames += games;
+        totalNanos += nanos;
+        if (!warmedUp) {
+            warmedUp = true;
+            return;
+        }
+        if (!tuning || nanos <= 0 || matches <= 0) {
+            return;
+        }
+        double rate = matches / (nanos / 1e9);
+        // 게임 하나는 작업 하나이므로 게임 수보다 많은 스레드는 잴 수 없음
+        if (rate > bestRate * MIN_GAIN && threads < Math.min(maxThreads, games)) {
+            bestRate = rate;
+            bestThreads = threads;
+            setThreads(Math.min(threads * 2, Math.min(maxThreads, games)));
+        } else {
+            if (rate > bestRate) {
+                bestRate = rate;
+                bestThreads = threads;
+            }
+            tuning = false;
+            setThreads(bestThreads);
+        }
+    }
+
+    private void setThreads(int threads) {
+        if (threads != this.threads) {
+            this.threads = threads;
+            resize(threads);
+        }
+    }
+
+    // 실행 전체의 처리량
+    String report() {
+        double seconds = totalNanos / 1e9;
+        return String.format("실행 백엔드: %s, %d게임, 초당 %.0f게임",
+            label(), totalGames, seconds > 0 ? totalGames / seconds : 0.0);
+    }
+
+    @Override
+    public abstract void close();
+
+    // 풀 종료: 남은 작업이 60초 안에 끝나지 않으면 중단
+    static void shutdown(ExecutorService executor) {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(60, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class ForkJoin extends ExecutionBackend {
+        private ForkJoinPool pool;
+
+        ForkJoin(int threads, int maxThreads) {
+            super(threads, maxThreads);
+            this.pool = new ForkJoinPool(threads);
+        }
+
+        @Override
+        String name() {
+            return "ForkJoinPool";
+        }
+
+        @Override
+        <T> Future<T> submit(Callable<T> task) {
+            return pool.submit(task);
+        }
+
+        // JDK 17의 ForkJoinPool은 병렬도를 바꿀 수 없어 새로 만듦 (조정하는 동안 몇 번뿐)
+        @Override
+        void resize(int threads) {
+            shutdown(pool);
+            pool = new ForkJoinPool(threads);
+        }
+
+        @Override
+        public void close() {
+            shutdown(pool);
+        }
+    }
+
+    private static final class Fixed extends ExecutionBackend {
+        private final ThreadPoolExecutor pool;
+
+        Fixed(int threads, int maxThreads) {
+            super(threads, maxThreads);
+            this.pool = (ThreadPoolExecutor) Executors.newFixedThreadPool(threads);
+        }
+
+        @Override
+        String name() {
+            return "고정 스레드 풀";
+        }
+
+        @Override
+        <T> Future<T> submit(Callable<T> task) {
+            return pool.submit(task);
+        }
+
+        // 늘릴 때는 최대 크기부터, 줄일 때는 기본 크기부터 바꿔야 함
+        @Override
+        void resize(int threads) {
+            if (threads > pool.getMaximumPoolSize()) {
+                pool.setMaximumPoolSize(threads);
+                pool.setCorePoolSize(threads);
+            } else {
+                pool.setCorePoolSize(threads);
+                pool.setMaximumPoolSize(threads);
+            }
+        }
+
+        @Override
+        public void close() {
+            shutdown(pool);
+        }
+    }
+
+    // 게임마다 가상 스레드: 크기 조정 없음 (동시 실행 수는 게임 수만큼)
+    private static final class Virtual extends ExecutionBackend {
+        private final ExecutorService executor;
+
+        Virtual(ExecutorService executor) {
+            super(Integer.MAX_VALUE, Integer.MAX_VALUE);
+            this.executor = executor;
+        }
+
+        @Override
+        String name() {
+            return "가상 스레드";
+        }
+
+        @Override
+        <T> Future<T> submit(Callable<T> task) {
+            return executor.submit(task);
+        }
+
+        @Override
+        void resize(int threads) {
+        }
+
+        @Override
+        String label() {
+            return name();
+        }
+
+        @Override
+        public void close() {
+            shutdown(executor);
+        }
+    }
+}
@@ -1,86 +1,513 @@
 import Strategy.*;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
+// 스레드 한정: 게임 하나(점수 배열, 노이즈 난수, 플레이어와 그 기록)는 한 번에 한 스레드만 실행
+// - 동기화 없이 일반 배열을 사용하고, 소유를 넘길 때는 실행자(Executor/ForkJoinPool)의 경계를 이용
+// - ThreadOwner.DEBUG면 넘겨주는 지점마다 releasePlayers()로 플레이어 소유를 풀고, 이후 접근을 검사
 class Game {
     private final List<Player> players;
     private final int rounds;
-    private final Map<Player, Map<Player, Integer>> scoreBoard = new HashMap<>();
-    private final Map<Integer, Map<Player, Integer>> roundScores = new ConcurrentHashMap<>();
-    private final Boolean NOISE = true;
-    private final Double NOISE_PROBABILITY = 0.01;
+    private final int size;
+    // 상대별 점수: pairScores[i * size + j] = i번 플레이어가 j번 플레이어에게서 얻은 점수
+    private final long[] pairScores;
+    // 라운드별 총점: roundTotals[(round - 1) * size + i] = i번 플레이어가 해당 라운드에 얻은 점수 합
+    private final int[] roundTotals;
+    // 주기 건너뛰기로 넘어간 구간의 라운드별 점수: 라운드마다 더하지 않고 구간만 남겨 두었다가 getRoundScore가 처음 읽을 때 펼침
+    // skipRuns[k * RUN_FIELDS ...] = i, j, 첫 라운드, 주기, 반복 횟수, skipPoints 안의 시작 위치
+    // skipPoints[시작 위치 + 2 * 주기 안 위치] = i번 점수, + 1 = j번 점수
+    private int[] skipRuns = new int[0];
+    private int[] skipPoints = new int[0];
+    private int runCount = 0;
+    private int pointCount = 0;
+    // 상대 쌍별 노이즈 난수: pairRandoms[i * size + j] (i < j), 실행 순서/스레드 수와 무관하게 같은 값을 뽑음
+    // 전략이 쓰는 난수는 상대별 기록에 따로 둠 (PairHistory.random())
+    private final SplittableRandom[] pairRandoms;
+    // 대조 변량 게임: 같은 시드의 게임과 같은 난수를 뒤집어 씀 (노이즈 간격은 u 대신 1 - u, 전략 난수도 뒤집힌 값)
+    // 같은 시드의 두 게임을 짝지어 평균하면 플레이어별 점수와 점수 차의 분산이 줄어듦
+    private final boolean antithetic;
+    // 다음 노이즈가 일어날 라운드: nextFlips[(i * size + j) * 2 + 0] = i번 쪽, + 1 = j번 쪽
+    // 라운드마다 난수를 뽑는 대신 기하분포로 다음 뒤집힘까지의 간격을 뽑음 (분포는 라운드별 확률과 동일)
+    private final int[] nextFlips;
+    // 플레이어별 노이즈 확률: noise[i] (Player.getNoise(), NOISE가 꺼져 있으면 0)
+    private final double[] noise;
+    // 표본 대신 기대 점수로 채우는 상대 쌍 (excluded[i * size + j], i < j): 경기를 치르지 않음
+    private final boolean[] excluded;
+    private boolean specializedLoops = SPECIALIZED_LOOPS; // 상대 쌍 단위 실행에서 클래스 쌍별 루프를 쓸지 (벤치마크가 바꿈)
+    private final Payoff payoff; // 행동 조합별 점수표 (기본: 죄수의 딜레마 3/0/5/1)
+    static final boolean NOISE = true; // 실행 노이즈 사용 여부 (확률은 플레이어별, 기본 Player.DEFAULT_NOISE)
+    private static final boolean FAST_FORWARD = true; // 결정적 전략 쌍의 주기를 찾아 노이즈 전까지 건너뜀 (상대 쌍 단위 실행)
+    static final boolean SPECIALIZED_LOOPS = true; // 전략 클래스 쌍마다 만든 경기 루프 사용 (MatchLoops, 실패하면 공용 루프)
+    static final boolean BATCH_DECISIONS = true; // 라운드 단위 실행에서 일괄 결정(BatchChoice) 사용
+    private static final int PAIRS_PER_TASK = 2; // 병렬 실행 시 작업 하나가 맡는 최소 상대 쌍 수
+    private static final int RUN_FIELDS = 6; // skipRuns에서 건너뛴 구간 하나가 차지하는 칸 수
 
-    public Game(List<Player> players, int rounds) {
+    public Game(List<Player> players, int rounds, long seed) {
+        this(players, rounds, seed, Payoff.PRISONERS_DILEMMA);
+    }
+
+    public Game(List<Player> players, int rounds, long seed, Payoff payoff) {
+        this(players, rounds, seed, payoff, false);
+    }
+
+    public Game(List<Player> players, int rounds, long seed, Payoff payoff, boolean antithetic) {
+        this(players, rounds, seed, payoff, antithetic, new Buffers());
+    }
+
+    // buffers: 진행용 작업 배열 (작업자가 가진 것을 넘기면 게임마다 새로 만들지 않음)
+    public Game(List<Player> players, int rounds, long seed, Payoff payoff, boolean antithetic, Buffers buffers) {
         this.players = players;
+        this.payoff = payoff;
+        this.antithetic = antithetic;
         this.rounds = rounds;
+        this.size = players.size();
 
-        // 초기화: 상대별 점수 저장소
-        for (Player p1 : players) {
-            scoreBoard.put(p1, new HashMap<>());
-            for (Player p2 : players) {
-                if (p1 != p2) {
-                    scoreBoard.get(p1).put(p2, 0);
-                }
+        // 상대 기록 배열을 플레이어 id 범위만큼 미리 확보 (병렬 실행 중에 배열이 바뀌지 않도록)
+        int ids = 0;
+        for (Player p : players) {
+            ids = Math.max(ids, p.getId() + 1);
+        }
+        for (Player p : players) {
+            p.reserveOpponents(ids);
+        }
+
+        // 초기화: 플레이어 순번(ordinal)으로 인덱싱되는 점수 저장소
+        this.pairScores = new long[size * size];
+        this.roundTotals = new int[rounds * size];
+
+        buffers.prepare(size);
+        this.pairRandoms = buffers.pairRandoms;
+        this.nextFlips = buffers.nextFlips;
+        this.excluded = buffers.excluded;
+        this.noise = buffers.noise;
+        for (int i = 0; i < size; i++) {
+            noise[i] = noiseOf(players.get(i));
+        }
+        // 난수 스트림은 게임 시드와 두 플레이어 id로 정함 (로스터 순번이나 만드는 순서와 무관)
+        for (int i = 0; i < size; i++) {
+            Player p1 = players.get(i);
+            for (int j = i + 1; j < size; j++) {
+                Player p2 = players.get(j);
+                SplittableRandom random = new SplittableRandom(
+                    Seeds.derive(seed, Seeds.NOISE_STREAM, p1.getId(), p2.getId()));
+                pairRandoms[i * size + j] = random;
+                nextFlips[(i * size + j) * 2] = nextFlip(random, 0, noise[i]);
+                nextFlips[(i * size + j) * 2 + 1] = nextFlip(random, 0, noise[j]);
+                p1.getHistory(p2).seedRandom(Seeds.derive(seed, Seeds.STRATEGY_STREAM, p1.getId(), p2.getId()), antithetic);
+                p2.getHistory(p1).seedRandom(Seeds.derive(seed, Seeds.STRATEGY_STREAM, p2.getId(), p1.getId()), antithetic);
             }
         }
+        releasePlayers(); // 만든 스레드와 실행하는 스레드가 다를 수 있음
     }
 
-    private void playRound(Player p1, Player p2, int round) {
-        boolean move1 = p1.makeMove(p2);
-        boolean move2 = p2.makeMove(p1);
-        if (NOISE) {
-            if (Math.random() < NOISE_PROBABILITY) {
-                move1 = !move1;
-            }
-            if (Math.random() < NOISE_PROBABILITY) {
-                move2 = !move2;
+    // 게임 진행에만 쓰는 작업 배열 (노이즈 난수와 일정, 제외 쌍, 노이즈 확률)
+    // - 게임을 실행하는 작업자마다 하나를 두고 다음 게임에서 비워서 재사용, 한 작업자는 한 번에 한 게임만 실행
+    // - 점수 결과(pairScores, roundTotals)는 실행이 끝난 뒤 다른 스레드가 읽으므로 여기에 두지 않고 게임마다 새로 만듦
+    static final class Buffers {
+        private SplittableRandom[] pairRandoms = new SplittableRandom[0];
+        private int[] nextFlips = new int[0];
+        private boolean[] excluded = new boolean[0];
+        private double[] noise = new double[0];
+
+        // size명 게임에 맞춤 (모자라면 새로 만들고, 충분하면 이전 게임의 제외 표시만 지움: 나머지는 생성자가 모두 덮어씀)
+        private void prepare(int size) {
+            if (noise.length < size) {
+                pairRandoms = new SplittableRandom[size * size];
+                nextFlips = new int[size * size * 2];
+                excluded = new boolean[size * size];
+                noise = new double[size];
+            } else {
+                Arrays.fill(excluded, false);
             }
         }
-        int p1Points, p2Points;
+    }
+
+    // 플레이어 소유를 풀어 다음 스레드가 이어받게 함 (디버그 모드에서만 동작)
+    private void releasePlayers() {
+        for (Player p : players) {
+            p.releaseOwner();
+        }
+    }
+
+    // round 이후 처음으로 노이즈가 일어날 라운드 (노이즈가 없으면 Integer.MAX_VALUE)
+    private int nextFlip(SplittableRandom random, int round, double probability) {
+        return (int) Math.min(Integer.MAX_VALUE, round + noiseGap(random, probability, antithetic));
+    }
+
+    // 플레이어의 실행 노이즈 확률 (NOISE가 꺼져 있으면 0)
+    static double noiseOf(Player player) {
+        return NOISE ? player.getNoise() : 0.0;
+    }
+
+    // 다음 노이즈까지의 간격 (1 이상, 기하분포: 매 시도마다 probability로 뒤집힘, 노이즈가 없으면 Long.MAX_VALUE)
+    // 뒤집힘 한 번에 난수 하나만 뽑음 (라운드마다 뽑지 않음)
+    static long noiseGap(SplittableRandom random, double probability) {
+        return noiseGap(random, probability, false);
+    }
 
-        if (move1 && move2) { // (C, C)
-            p1Points = 3;
-            p2Points = 3;
-        } else if (move1 && !move2) { // (C, D)
-            p1Points = 0;
-            p2Points = 5;
-        } else if (!move1 && move2) { // (D, C)
-            p1Points = 5;
-            p2Points = 0;
-        } else { // (D, D)
-            p1Points = 1;
-            p2Points = 1;
+    // antithetic이면 같은 난수 u에서 1 - u로 뒤집은 간격 (역변환이므로 짧은 간격과 긴 간격이 짝을 이룸)
+    static long noiseGap(SplittableRandom random, double probability, boolean antithetic) {
+        if (probability <= 0) {
+            return Long.MAX_VALUE;
         }
+        double u = random.nextDouble();
+        double gap = Math.floor(Math.log(antithetic ? u : 1.0 - u) / Math.log(1.0 - probability)) + 1;
+        return (long) Math.min(Long.MAX_VALUE / 2, gap);
+    }
+
+    // i번과 j번 플레이어의 경기를 치르지 않음 (MarkovEvaluator가 기대 점수를 따로 채움), 실행 전에 호출
+    public void exclude(int i, int j) {
+        excluded[Math.min(i, j) * size + Math.max(i, j)] = true;
+    }
+
+    private void playRound(int i, int j, int round) {
+        if (excluded[i * size + j]) {
+            return;
+        }
+        Player p1 = players.get(i);
+        Player p2 = players.get(j);
+        playRound(i, j, round, p1, p2, p1.getHistory(p2), p2.getHistory(p1));
+    }
+
+    // h1 = p1이 본 p2와의 기록, h2 = p2가 본 p1과의 기록 (상대 쌍 단위 실행에서는 한 번만 조회해 재사용)
+    private void playRound(int i, int j, int round, Player p1, Player p2, PairHistory h1, PairHistory h2) {
+        boolean move1 = p1.getStrategy().choose(p1, p2, h1);
+        boolean move2 = p2.getStrategy().choose(p2, p1, h2);
+        finishRound(i, j, round, p1, p2, h1, h2, move1, move2);
+    }
+
+    // 두 전략이 고른 행동에 노이즈를 적용하고, 점수를 매기고, 기록함 (경기 루프가 choose() 뒤에 호출)
+    // 반환값: 실제로 실행된 행동 (비트 0 = p1 협력, 비트 1 = p2 협력)
+    int finishRound(int i, int j, int round, Player p1, Player p2, PairHistory h1, PairHistory h2,
+                     boolean move1, boolean move2) {
+        int slot = (i * size + j) * 2;
+        if (round == nextFlips[slot]) {
+            move1 = !move1;
+            nextFlips[slot] = nextFlip(pairRandoms[i * size + j], round, noise[i]);
+        }
+        if (round == nextFlips[slot + 1]) {
+            move2 = !move2;
+            nextFlips[slot + 1] = nextFlip(pairRandoms[i * size + j], round, noise[j]);
+        }
+        settle(i, j, round, p1, p2, move1, move2);
+
+        h1.record(move1, move2);
+        h2.record(move2, move1);
+        return (move1 ? 1 : 0) | (move2 ? 2 : 0);
+    }
+
+    // 실제 실행된 행동으로 점수를 매기고 누적
+    private void settle(int i, int j, int round, Player p1, Player p2, boolean move1, boolean move2) {
+        int p1Points = payoff.points(move1, move2);
+        int p2Points = payoff.points(move2, move1);
 
         p1.addScore(p1Points);
         p2.addScore(p2Points);
 
         // 라운드별 총점 기록 (플레이어 정보 없이 저장)
-        roundScores.computeIfAbsent(round, k -> new ConcurrentHashMap<>()).merge(p1, p1Points, Integer::sum);
-        roundScores.computeIfAbsent(round, k -> new ConcurrentHashMap<>()).merge(p2, p2Points, Integer::sum);
+        int roundBase = (round - 1) * size;
+        roundTotals[roundBase + i] += p1Points;
+        roundTotals[roundBase + j] += p2Points;
         //System.out.printf("[DEBUG] Round %d -> %s: %d, %s: %d\n", round, p1.getName(), p1Points, p2.getName(), p2Points);
         // 상대별 점수 누적
-        scoreBoard.computeIfAbsent(p1, k -> new HashMap<>()).merge(p2, p1Points, Integer::sum);
-        scoreBoard.computeIfAbsent(p2, k -> new HashMap<>()).merge(p1, p2Points, Integer::sum);
-
-        p1.updateHistory(p2, move1, move2);
-        p2.updateHistory(p1, move2, move1);
+        pairScores[i * size + j] += p1Points;
+        pairScores[j * size + i] += p2Points;
     }
 
+    // 모든 전략이 상대 쌍 내부 정보만 쓰면(Strategy.isPairLocal) 상대 쌍 단위로, 아니면 라운드 단위로 실행
+    // 기본 로스터(createPlayers)는 Gradual이 모든 상대에 걸친 라운드 카운터를 쓰므로 라운드 단위로 실행됨
+    // → 상대 쌍 단위 실행, 주기 건너뛰기(FAST_FORWARD), 클래스 쌍별 루프는 상대 쌍 내부 전략만 쓰는 로스터에서만 동작
     public void playAndGetResults() {
+        if (isPairLocal()) {
+            playPairMajor();
+        } else {
+            playRoundMajor();
+        }
+        releasePlayers();
+    }
+
+    private boolean isPairLocal() {
+        for (Player p : players) {
+            if (!p.getStrategy().isPairLocal()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 상대 쌍 하나의 경기 전체를 이어서 실행: 두 기록 객체만 반복해서 접근하므로 캐시 효율이 좋음
+    // 다른 상대와의 결과를 읽는 전략이 없으므로 라운드 단위 실행과 결과 분포가 같음 (노이즈도 쌍별 난수)
+    private void playPairMajor() {
+        for (int i = 0; i < size; i++) {
+            Player p1 = players.get(i);
+            for (int j = i + 1; j < size; j++) {
+                if (excluded[i * size + j]) {
+                    continue;
+                }
+                Player p2 = players.get(j);
+                playMatch(i, j, p1, p2, p1.getHistory(p2), p2.getHistory(p1));
+            }
+        }
+    }
+
+    // 두 전략이 모두 유한 상태 기계면 곱 오토마톤으로, 아니면 경기 루프(MatchLoopTemplate)로 진행
+    // 경기 루프는 모두 stateFingerprint를 지원하면 주기를 찾아 건너뛰며 진행
+    private void playMatch(int i, int j, Player p1, Player p2, PairHistory h1, PairHistory h2) {
+        Strategy s1 = p1.getStrategy();
+        Strategy s2 = p2.getStrategy();
+        if (s1.machine() != null && s2.machine() != null
+            && s1.machine().isDeterministic() && s2.machine().isDeterministic()) {
+            playMachines(i, j, p1, p2, new ProductAutomaton(s1.machine(), s2.machine(), payoff));
+            return;
+        }
+        CycleDetector cycle = FAST_FORWARD && CycleDetector.supports(s1, s2)
+            ? new CycleDetector(s1.historyDepth(), s2.historyDepth()) : null;
+        MatchLoop loop = specializedLoops ? MatchLoops.forPair(s1.getClass(), s2.getClass()) : MatchLoops.generic();
+        loop.play(this, i, j, p1, p2, h1, h2, cycle);
+    }
+
+    // 실행 전에 호출: false면 모든 쌍이 공용 경기 루프를 씀 (MatchLoopBenchmark의 비교용)
+    void setSpecializedLoops(boolean specializedLoops) {
+        this.specializedLoops = specializedLoops;
+    }
+
+    int rounds() {
+        return rounds;
+    }
+
+    // 이번 라운드에 i번(첫째) 또는 j번(둘째) 쪽 행동이 노이즈로 뒤집히는지
+    boolean isNoisy(int i, int j, int round) {
+        int slot = (i * size + j) * 2;
+        return round == nextFlips[slot] || round == nextFlips[slot + 1];
+    }
+
+    // choose() 대신 곱 오토마톤의 표 조회로 경기 진행 (노이즈는 다른 경로와 같은 순서로 뽑으므로 결과도 같음)
+    // 전략이 호출되지 않으므로 대전 기록과 전략 내부 상태는 갱신되지 않음 (게임이 끝나면 읽지 않음)
+    private void playMachines(int i, int j, Player p1, Player p2, ProductAutomaton automaton) {
+        int slot = (i * size + j) * 2;
+        int state = 0;
+        for (int round = 1; round <= rounds; round++) {
+            int outcome = automaton.intended(state);
+            if (round == nextFlips[slot]) {
+                outcome ^= 1;
+                nextFlips[slot] = nextFlip(pairRandoms[i * size + j], round, noise[i]);
+            }
+            if (round == nextFlips[slot + 1]) {
+                outcome ^= 2;
+                nextFlips[slot + 1] = nextFlip(pairRandoms[i * size + j], round, noise[j]);
+            }
+            settle(i, j, round, p1, p2, (outcome & 1) != 0, (outcome & 2) != 0);
+            state = automaton.next(state, outcome);
+        }
+    }
+
+    // [start, round) 구간의 행동이 주기로 반복된다고 보고, 다음 노이즈 전까지 들어가는 만큼 주기 단위로 건너뜀
+    // - 상대별 점수와 플레이어 점수는 주기 합 × 반복 횟수로 한 번에 더함
+    // - 라운드별 총점은 (첫 라운드, 주기, 반복 횟수)와 주기 안 위치별 점수만 남기고 getRoundScore가 읽을 때 펼침
+    // - 주기 단위로만 건너뛰므로 전략 내부 상태는 건너뛰기 전과 같음
+    // - 대전 기록은 보관 범위의 마지막 라운드만 쓰고 통계는 주기 단위로 진행 (PairHistory.recordRepeated)
+    //   게임이 건너뛴 구간에서 끝나면 더 이상 읽히지 않으므로 갱신하지 않음
+    // 건너뛰는 라운드 수와 무관하게 주기 길이(와 기록 보관 범위)에 비례하는 시간만 듦
+    int fastForward(int i, int j, int round, int start, CycleDetector cycle,
+                    Player p1, Player p2, PairHistory h1, PairHistory h2) {
+        int period = round - start;
+        int slot = (i * size + j) * 2;
+        int last = Math.min(rounds, Math.min(nextFlips[slot], nextFlips[slot + 1]) - 1); // 건너뛸 수 있는 마지막 라운드
+        int repeats = (last - round + 1) / period;
+        if (repeats <= 0) {
+            return 0;
+        }
+        int skipped = repeats * period;
+        int points = addSkipRun(i, j, round, period, repeats);
+        boolean[] moves1 = new boolean[period];
+        boolean[] moves2 = new boolean[period];
+        int sum1 = 0, sum2 = 0;
+        for (int k = 0; k < period; k++) {
+            moves1[k] = cycle.move1(start + k);
+            moves2[k] = cycle.move2(start + k);
+            int p1Points = payoff.points(moves1[k], moves2[k]);
+            int p2Points = payoff.points(moves2[k], moves1[k]);
+            skipPoints[points + 2 * k] = p1Points;
+            skipPoints[points + 2 * k + 1] = p2Points;
+            sum1 += p1Points;
+            sum2 += p2Points;
+        }
+        pairScores[i * size + j] += (long) sum1 * repeats;
+        pairScores[j * size + i] += (long) sum2 * repeats;
+        p1.addScore(sum1 * repeats, skipped);
+        p2.addScore(sum2 * repeats, skipped);
+
+        if (round + skipped <= rounds) {
+            h1.recordRepeated(moves1, moves2, repeats);
+            h2.recordRepeated(moves2, moves1, repeats);
+        }
+        return skipped;
+    }
+
+    // 건너뛴 구간 하나를 등록하고 위치별 점수를 쓸 skipPoints의 시작 위치를 반환
+    private int addSkipRun(int i, int j, int first, int period, int repeats) {
+        if ((runCount + 1) * RUN_FIELDS > skipRuns.length) {
+            skipRuns = Arrays.copyOf(skipRuns, Math.max(RUN_FIELDS * 4, skipRuns.length * 2));
+        }
+        if (pointCount + 2 * period > skipPoints.length) {
+            skipPoints = Arrays.copyOf(skipPoints, Math.max(pointCount + 2 * period, skipPoints.length * 2));
+        }
+        int base = runCount * RUN_FIELDS;
+        skipRuns[base] = i;
+        skipRuns[base + 1] = j;
+        skipRuns[base + 2] = first;
+        skipRuns[base + 3] = period;
+        skipRuns[base + 4] = repeats;
+        skipRuns[base + 5] = pointCount;
+        runCount++;
+        pointCount += 2 * period;
+        return skipRuns[base + 5];
+    }
+
+    // 남겨 둔 건너뛴 구간의 점수를 roundTotals에 펼침 (실행이 끝난 뒤 getRoundScore가 처음 읽을 때 한 번)
+    private void expandSkipRuns() {
+        for (int run = 0; run < runCount; run++) {
+            int base = run * RUN_FIELDS;
+            int i = skipRuns[base];
+            int j = skipRuns[base + 1];
+            int first = skipRuns[base + 2];
+            int period = skipRuns[base + 3];
+            int end = first + period * skipRuns[base + 4];
+            int points = skipRuns[base + 5];
+            for (int k = 0; k < period; k++) {
+                int p1Points = skipPoints[points + 2 * k];
+                int p2Points = skipPoints[points + 2 * k + 1];
+                for (int r = first + k; r < end; r += period) {
+                    roundTotals[(r - 1) * size + i] += p1Points;
+                    roundTotals[(r - 1) * size + j] += p2Points;
+                }
+            }
+        }
+        runCount = 0;
+        pointCount = 0;
+    }
+
+    // 일괄 결정(BatchChoice)을 제공하는 전략은 라운드 시작에 모든 상대에 대한 행동을 한 번에 정하고, 나머지는 choose()
+    private void playRoundMajor() {
+        BatchDecisions batch = BATCH_DECISIONS ? BatchDecisions.of(players, excluded) : null;
         for (int round = 1; round <= rounds; round++) {
-            for (int j = 0; j < players.size(); j++) {
-                for (int k = j + 1; k < players.size(); k++) {
-                    playRound(players.get(j), players.get(k), round);
+            if (batch != null) {
+                batch.decide(round);
+            }
+            for (int j = 0; j < size; j++) {
+                for (int k = j + 1; k < size; k++) {
+                    if (batch == null) {
+                        playRound(j, k, round);
+                    } else {
+                        playRound(j, k, round, batch);
+                    }
                 }
             }
         }
     }
 
-    public Map<Integer, Map<Player, Integer>> getRoundScores() {
-        return roundScores;
+    private void playRound(int i, int j, int round, BatchDecisions batch) {
+        if (excluded[i * size + j]) {
+            return;
+        }
+        Player p1 = players.get(i);
+        Player p2 = players.get(j);
+        PairHistory h1 = p1.getHistory(p2);
+        PairHistory h2 = p2.getHistory(p1);
+        boolean move1 = batch.has(i) ? batch.decision(i, j) : p1.getStrategy().choose(p1, p2, h1);
+        boolean move2 = batch.has(j) ? batch.decision(j, i) : p2.getStrategy().choose(p2, p1, h2);
+        int outcome = finishRound(i, j, round, p1, p2, h1, h2, move1, move2);
+        batch.record(i, j, (outcome & 1) != 0, (outcome & 2) != 0);
     }
-    public Map<Player, Map<Player, Integer>> getScoreBoard() {
-        return scoreBoard;
+
+    // 한 게임 안의 상대 쌍을 작업 훔치기(work-stealing) 풀에 나눠 실행
+    // - 라운드를 원형 일정(round-robin)의 매칭들로 나눔: 한 매칭 안에서 각 플레이어는 최대 한 번만 등장
+    //   → 한 플레이어의 전략/기록에 두 스레드가 동시에 접근하지 않고, 상대 처리 순서도 스레드 수와 무관
+    // - 점수 조회(RobinHood, Flatterer 등)와 여러 상대에 걸친 집계(CollectiveResponsibility)는
+    //   라운드 시작 시점 스냅샷을 읽음 (Player.beginEpoch)
+    // - 같은 seed면 스레드 수와 관계없이 결과가 비트 단위로 같음 (전략 내부 난수는 별도)
+    public void playAndGetResults(ForkJoinPool pool) {
+        int[][] matchings = roundRobinSchedule();
+        for (int round = 1; round <= rounds; round++) {
+            for (Player p : players) {
+                p.beginEpoch();
+            }
+            releasePlayers();
+            for (int[] matching : matchings) {
+                pool.invoke(new MatchingTask(matching, 0, matching.length / 2, round));
+                releasePlayers(); // 매칭마다 다른 작업 스레드가 플레이어를 맡음
+            }
+        }
+        for (Player p : players) {
+            p.endEpoch();
+        }
+        releasePlayers();
+    }
+
+    // 원형 방식 일정: 매칭 하나 = {i0, j0, i1, j1, ...}, 모든 매칭을 합치면 모든 상대 쌍이 정확히 한 번씩 등장
+    private int[][] roundRobinSchedule() {
+        int slots = size % 2 == 0 ? size : size + 1; // 홀수면 부전승 자리 추가
+        int[][] matchings = new int[Math.max(0, slots - 1)][];
+        for (int r = 0; r < slots - 1; r++) {
+            int[] pairs = new int[slots];
+            int count = 0;
+            for (int k = 0; k < slots / 2; k++) {
+                int a = k == 0 ? slots - 1 : (r + k) % (slots - 1);
+                int b = (r + slots - 1 - k) % (slots - 1);
+                if (a >= size || b >= size) {
+                    continue; // 부전승
+                }
+                pairs[count++] = Math.min(a, b);
+                pairs[count++] = Math.max(a, b);
+            }
+            matchings[r] = Arrays.copyOf(pairs, count);
+        }
+        return matchings;
+    }
+
+    private class MatchingTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] matching;
+        private final int from;
+        private final int to; // 상대 쌍 인덱스 [from, to)
+        private final int round;
+
+        MatchingTask(int[] matching, int from, int to, int round) {
+            this.matching = matching;
+            this.from = from;
+            this.to = to;
+            this.round = round;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PAIRS_PER_TASK) {
+                for (int p = from; p < to; p++) {
+                    playRound(matching[2 * p], matching[2 * p + 1], round);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new MatchingTask(matching, from, mid, round), new MatchingTask(matching, mid, to, round));
+        }
+    }
+
+    public List<Player> getPlayers() {
+        return players;
+    }
+
+    // i번 플레이어가 j번 플레이어에게서 얻은 점수 (배열 직접 조회)
+    public long getPairScore(int i, int j) {
+        return pairScores[i * size + j];
+    }
+
+    // i번 플레이어가 해당 라운드(1부터 시작)에 얻은 점수 합 (건너뛴 구간은 처음 읽을 때 펼침)
+    public int getRoundScore(int round, int i) {
+        if (runCount > 0) {
+            expandSkipRuns();
+        }
+        return roundTotals[(round - 1) * size + i];
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,84 @@
+import Strategy.*;
+import java.util.*;
+
+// 두 전략이 모두 Machine(결정적 FSM 또는 기억 1단계 확률 전략)으로 표현되는 상대 쌍의 기대 점수를 정확히 계산
+// - 실행 노이즈(플레이어별 확률, Game.noiseOf)를 포함한 곱 오토마톤의 마르코프 연쇄로 라운드별 기대 점수를 구함 (ProductAutomaton)
+// - 이런 쌍은 Game에서 제외하고(exclude), 시뮬레이터는 나머지 쌍만 표본으로 실행
+// - 상대의 누적 점수를 읽는 전략(Strategy.readsOpponentScore)이 있으면 점수가 달라지므로 사용하지 않음
+class MarkovEvaluator {
+    private final int size;
+    private final boolean[] analytic;     // analytic[i * size + j] (i < j)
+    private final double[] pairScores;    // 게임 한 번의 기대 점수: pairScores[i * size + j] = i번이 j번에게서 얻는 점수
+    private final double[] roundTotals;   // 게임 한 번의 라운드별 기대 점수 합: roundTotals[(round - 1) * size + i]
+
+    MarkovEvaluator(List<Player> players, int rounds, Payoff payoff) {
+        this.size = players.size();
+        this.analytic = new boolean[size * size];
+        this.pairScores = new double[size * size];
+        this.roundTotals = new double[rounds * size];
+        if (!isApplicable(players)) {
+            return;
+        }
+
+        Map<List<Object>, double[][]> solved = new HashMap<>(); // 같은 전략·노이즈 조합은 한 번만 계산
+        for (int i = 0; i < size; i++) {
+            Machine m1 = players.get(i).getStrategy().machine();
+            double noise1 = Game.noiseOf(players.get(i));
+            if (m1 == null) {
+                continue;
+            }
+            for (int j = i + 1; j < size; j++) {
+                Machine m2 = players.get(j).getStrategy().machine();
+                double noise2 = Game.noiseOf(players.get(j));
+                if (m2 == null) {
+                    continue;
+                }
+                double[][] perRound = solved.computeIfAbsent(List.of(m1, m2, noise1, noise2),
+                    k -> new ProductAutomaton(m1, m2, payoff).expectedRoundPayoffs(rounds, noise1, noise2));
+                analytic[i * size + j] = true;
+                for (int round = 1; round <= rounds; round++) {
+                    double p1Points = perRound[0][round - 1];
+                    double p2Points = perRound[1][round - 1];
+                    pairScores[i * size + j] += p1Points;
+                    pairScores[j * size + i] += p2Points;
+                    roundTotals[(round - 1) * size + i] += p1Points;
+                    roundTotals[(round - 1) * size + j] += p2Points;
+                }
+            }
+        }
+    }
+
+    static boolean isApplicable(List<Player> players) {
+        for (Player p : players) {
+            if (p.getStrategy().readsOpponentScore()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    boolean isAnalytic(int i, int j) {
+        return analytic[Math.min(i, j) * size + Math.max(i, j)];
+    }
+
+    // 분석으로 계산한 쌍을 게임에서 제외 (같은 플레이어 순서로 만든 Game이어야 함)
+    void excludeFrom(Game game) {
+        for (int i = 0; i < size; i++) {
+            for (int j = i + 1; j < size; j++) {
+                if (analytic[i * size + j]) {
+                    game.exclude(i, j);
+                }
+            }
+        }
+    }
+
+    // i번 플레이어가 j번 플레이어에게서 얻는 게임 한 번의 기대 점수 (분석 쌍이 아니면 0)
+    double getPairScore(int i, int j) {
+        return pairScores[i * size + j];
+    }
+
+    // i번 플레이어가 해당 라운드(1부터 시작)에 분석 쌍에서 얻는 기대 점수 합
+    double getRoundScore(int round, int i) {
+        return roundTotals[(round - 1) * size + i];
+    }
+}
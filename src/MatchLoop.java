@@ -0,0 +1,8 @@
+import Strategy.*;
+
+// 상대 쌍 하나의 경기 전체를 진행하는 루프 (Game.playMatch가 호출)
+// 구현은 MatchLoopTemplate 하나뿐이며, MatchLoops가 전략 클래스 쌍마다 그 복제본을 만들어 줌
+interface MatchLoop {
+    // cycle: 주기 탐지기 (건너뛰기를 쓰지 않으면 null)
+    void play(Game game, int i, int j, Player p1, Player p2, PairHistory h1, PairHistory h2, CycleDetector cycle);
+}
@@ -0,0 +1,72 @@
+import Strategy.*;
+import java.util.*;
+
+// 경기 루프 비교: 공용 루프(모든 쌍이 한 루프, choose() 호출 지점이 다형) vs 클래스 쌍별 루프(MatchLoops)
+// - 곱 오토마톤으로 진행되지 않는 상대 쌍 단위 전략들로 게임을 반복 실행하고 초당 게임 수를 비교
+// - 두 방식의 결과가 같은지도 확인 (같은 시드면 점수판이 같아야 함)
+// 실행: java MatchLoopBenchmark [게임 수] [반복 횟수]
+public class MatchLoopBenchmark {
+    private static final int ROUNDS = 100;
+    private static final Strategy[] ROSTER = {
+        new ContriteTitForTat(), new Debt(), new DiscountFactor(), new DynamicTitForTat(), new EnhancedTitForTat(),
+        new ForgivingTitForTat(), new GlassMind(), new GuidingCooperator(), new HandOfGod(), new Mutation(),
+        new PatternBreaker(), new PeacefulTitForTat(), new Predictor(), new ProbabilisticWeightedTitForTat(),
+        new Saint(), new ScammerTester(), new ShadowDefect(), new Shepherd(), new StereoType(), new TwoTitsForTat()
+    };
+
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        int repeats = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+
+        if (checksum(1, false) != checksum(1, true)) {
+            throw new IllegalStateException("Specialized loops changed the results");
+        }
+        // 워밍업: 두 경로 모두 JIT 컴파일이 끝나도록
+        run(games, false);
+        run(games, true);
+
+        double generic = 0, specialized = 0;
+        for (int r = 0; r < repeats; r++) {
+            generic = Math.max(generic, run(games, false));
+            specialized = Math.max(specialized, run(games, true));
+        }
+        System.out.printf("공용 루프: %.0f게임/초%n", generic);
+        System.out.printf("클래스 쌍별 루프: %.0f게임/초 (%.2f배)%n", specialized, specialized / generic);
+    }
+
+    // games개 게임의 초당 처리량
+    private static double run(int games, boolean specializedLoops) {
+        long start = System.nanoTime();
+        long sink = 0;
+        for (int g = 0; g < games; g++) {
+            sink += play(g, specializedLoops).getPairScore(0, 1);
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        if (sink == Long.MIN_VALUE) {
+            System.out.println(); // 결과를 쓰는 척해 루프가 제거되지 않게 함
+        }
+        return games / seconds;
+    }
+
+    private static long checksum(long seed, boolean specializedLoops) {
+        Game game = play(seed, specializedLoops);
+        long sum = 0;
+        for (int i = 0; i < ROSTER.length; i++) {
+            for (int j = 0; j < ROSTER.length; j++) {
+                sum = sum * 31 + game.getPairScore(i, j);
+            }
+        }
+        return sum;
+    }
+
+    private static Game play(long seed, boolean specializedLoops) {
+        List<Player> players = new ArrayList<>();
+        for (Strategy strategy : ROSTER) {
+            players.add(new Player(players.size(), strategy.getClass().getSimpleName(), strategy.cloneStrategy()));
+        }
+        Game game = new Game(players, ROUNDS, seed);
+        game.setSpecializedLoops(specializedLoops);
+        game.playAndGetResults();
+        return game;
+    }
+}
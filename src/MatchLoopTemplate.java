@@ -0,0 +1,49 @@
+import Strategy.*;
+
+// 경기 루프의 원본: 이 클래스 자체가 공용 루프이고, MatchLoops가 바이트코드를 그대로 복제해 클래스 쌍마다 숨은 클래스로 정의함
+// - 복제본마다 호출 지점의 타입 프로파일이 따로 쌓이므로 choose()/stateFingerprint() 호출이 단형(monomorphic)이 되어 인라인됨
+// - 공용 루프(원본)는 여러 전략 클래스가 섞여 호출 지점이 다형(megamorphic)
+// - 복제본은 이 파일의 코드를 그대로 쓰므로 결과는 공용 루프와 비트 단위로 같음
+// 주의: 복제할 수 있도록 람다, 중첩 클래스, 정적 상태를 두지 않음
+final class MatchLoopTemplate implements MatchLoop {
+    @Override
+    public void play(Game game, int i, int j, Player p1, Player p2, PairHistory h1, PairHistory h2, CycleDetector cycle) {
+        Strategy s1 = p1.getStrategy();
+        Strategy s2 = p2.getStrategy();
+        int rounds = game.rounds();
+        int round = 1;
+        while (round <= rounds) {
+            boolean tracked = false;
+            if (cycle != null) {
+                long fingerprint1 = s1.stateFingerprint(p2, h1);
+                long fingerprint2 = s2.stateFingerprint(p1, h2);
+                if (fingerprint1 != Strategy.NO_FINGERPRINT && fingerprint2 != Strategy.NO_FINGERPRINT) {
+                    int start = cycle.observe(round, h1, h2, fingerprint1, fingerprint2);
+                    if (start > 0) {
+                        int skipped = game.fastForward(i, j, round, start, cycle, p1, p2, h1, h2);
+                        if (skipped > 0) {
+                            round += skipped;
+                            cycle.reset();
+                            continue;
+                        }
+                    }
+                    tracked = true;
+                } else {
+                    cycle.reset();
+                }
+            }
+            boolean noisy = game.isNoisy(i, j, round);
+            boolean move1 = s1.choose(p1, p2, h1);
+            boolean move2 = s2.choose(p2, p1, h2);
+            game.finishRound(i, j, round, p1, p2, h1, h2, move1, move2);
+            if (tracked) {
+                if (noisy) {
+                    cycle.reset();
+                } else {
+                    cycle.played(h1.lastMyMove(), h1.lastOpponentMove());
+                }
+            }
+            round++;
+        }
+    }
+}
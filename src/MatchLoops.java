@@ -0,0 +1,81 @@
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandles;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 전략 클래스 쌍별 경기 루프
+// - (첫째 전략 클래스, 둘째 전략 클래스) 쌍이 SPECIALIZE_AFTER번 경기를 치르면 MatchLoopTemplate의 바이트코드로 숨은 클래스를 정의
+//   그 전까지는 공용 루프 사용: 몇 번 안 만나는 쌍은 클래스 정의와 JIT 컴파일 비용을 치르지 않음
+//   (Lookup.defineHiddenClass: 이름이 없고 이 패키지에 속하며, 다른 코드가 참조할 수 없는 클래스)
+// - 만든 루프는 JVM이 끝날 때까지 보관 (캐시가 계속 참조하므로 숨은 클래스가 언로드되지 않음)
+// - 템플릿 바이트코드를 읽지 못하거나 정의에 실패하면, 또는 만든 루프가 MAX_LOOPS개를 넘으면 공용 루프 사용
+final class MatchLoops {
+    private static final int SPECIALIZE_AFTER = 64;
+    private static final int MAX_LOOPS = 4096; // 코드 캐시가 끝없이 늘지 않도록 제한 (전략 58개면 쌍은 최대 3364개)
+    private static final MatchLoop GENERIC = new MatchLoopTemplate();
+    private static final byte[] TEMPLATE = readTemplate(); // null이면 복제하지 않음
+    private static final AtomicInteger defined = new AtomicInteger();
+    // 첫째 클래스 → (둘째 클래스 → 루프 자리)
+    private static final ClassValue<Map<Class<?>, Slot>> LOOPS = new ClassValue<>() {
+        @Override
+        protected Map<Class<?>, Slot> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    // 클래스 쌍 하나의 경기 수와 전용 루프 (만들기 전에는 null)
+    private static final class Slot {
+        private final AtomicInteger matches = new AtomicInteger();
+        private volatile MatchLoop loop;
+    }
+
+    private MatchLoops() {
+    }
+
+    // 모든 전략 쌍이 함께 쓰는 루프 (대체 경로)
+    static MatchLoop generic() {
+        return GENERIC;
+    }
+
+    // 이 클래스 쌍의 경기 한 번에 쓸 루프 (충분히 만난 쌍이면 전용 루프를 만들어 두고, 만들 수 없으면 공용 루프)
+    static MatchLoop forPair(Class<?> first, Class<?> second) {
+        Slot slot = LOOPS.get(first).computeIfAbsent(second, type -> new Slot());
+        MatchLoop loop = slot.loop;
+        if (loop != null) {
+            return loop;
+        }
+        if (slot.matches.incrementAndGet() < SPECIALIZE_AFTER) {
+            return GENERIC;
+        }
+        synchronized (slot) {
+            if (slot.loop == null) {
+                slot.loop = define();
+            }
+            return slot.loop;
+        }
+    }
+
+    private static MatchLoop define() {
+        if (TEMPLATE == null || defined.get() >= MAX_LOOPS) {
+            return GENERIC;
+        }
+        try {
+            Class<?> hidden = MethodHandles.lookup().defineHiddenClass(TEMPLATE, true).lookupClass();
+            MatchLoop loop = (MatchLoop) hidden.getDeclaredConstructor().newInstance();
+            defined.incrementAndGet();
+            return loop;
+        } catch (ReflectiveOperationException | LinkageError | SecurityException e) {
+            return GENERIC;
+        }
+    }
+
+    private static byte[] readTemplate() {
+        try (InputStream in = MatchLoopTemplate.class.getResourceAsStream("MatchLoopTemplate.class")) {
+            return in == null ? null : in.readAllBytes();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+}
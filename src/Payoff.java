@@ -0,0 +1,148 @@
+import java.util.Locale;
+
+// 2x2 대칭 게임의 보수표: T(유혹, 배신-협력), R(보상, 협력-협력), P(처벌, 배신-배신), S(바보, 협력-배신)
+// - 내 점수 = 표[outcome], outcome = (내 행동 ? 1 : 0) | (상대 행동 ? 2 : 0) (Machine, ProductAutomaton과 같은 비트 배치)
+// - 게임 계열마다 상수를 코드에 박은 전용 커널을 두어, 한 실행에서 한 커널만 쓰이면 JIT가 호출을 인라인하고 상수로 접음
+// - 그 밖의 값(매개변수 탐색)은 배열 조회 커널 (Table)
+abstract class Payoff {
+    static final Payoff PRISONERS_DILEMMA = new PrisonersDilemma(); // T > R > P > S (5, 3, 1, 0)
+    static final Payoff STAG_HUNT = new StagHunt();                 // R > T > P > S (3, 4, 1, 0)
+    static final Payoff SNOWDRIFT = new Snowdrift();                // T > R > S > P (5, 3, 0, 1)
+
+    private final String name;
+
+    private Payoff(String name) {
+        this.name = name;
+    }
+
+    // 행동 조합의 내 점수 (outcome 비트 배치는 위 설명 참고)
+    abstract int points(int outcome);
+
+    final int points(boolean myMove, boolean opponentMove) {
+        return points((myMove ? 1 : 0) | (opponentMove ? 2 : 0));
+    }
+
+    final int temptation() {
+        return points(false, true);
+    }
+
+    final int reward() {
+        return points(true, true);
+    }
+
+    final int punishment() {
+        return points(false, false);
+    }
+
+    final int sucker() {
+        return points(true, false);
+    }
+
+    String name() {
+        return name;
+    }
+
+    // 값이 기본 계열과 같으면 전용 커널을, 아니면 배열 조회 커널을 돌려줌
+    static Payoff of(int temptation, int reward, int punishment, int sucker) {
+        for (Payoff family : new Payoff[] {PRISONERS_DILEMMA, STAG_HUNT, SNOWDRIFT}) {
+            if (family.temptation() == temptation && family.reward() == reward
+                && family.punishment() == punishment && family.sucker() == sucker) {
+                return family;
+            }
+        }
+        return new Table(temptation, reward, punishment, sucker);
+    }
+
+    // 실행 인자로 받은 보수표: 계열 이름(pd, stag-hunt, snowdrift) 또는 "T,R,P,S"
+    static Payoff parse(String spec) {
+        switch (spec.trim().toLowerCase(Locale.ROOT)) {
+            case "pd", "prisoners-dilemma" -> {
+                return PRISONERS_DILEMMA;
+            }
+            case "stag-hunt", "staghunt" -> {
+                return STAG_HUNT;
+            }
+            case "snowdrift", "chicken" -> {
+                return SNOWDRIFT;
+            }
+            default -> {
+            }
+        }
+        String[] values = spec.split(",");
+        if (values.length != 4) {
+            throw new IllegalArgumentException("Payoff: " + spec + " (expected a family name or T,R,P,S)");
+        }
+        return of(Integer.parseInt(values[0].trim()), Integer.parseInt(values[1].trim()),
+            Integer.parseInt(values[2].trim()), Integer.parseInt(values[3].trim()));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s (T=%d, R=%d, P=%d, S=%d)", name, temptation(), reward(), punishment(), sucker());
+    }
+
+    private static final class PrisonersDilemma extends Payoff {
+        PrisonersDilemma() {
+            super("Prisoner's Dilemma");
+        }
+
+        @Override
+        int points(int outcome) {
+            return switch (outcome) {
+                case 3 -> 3; // (C, C)
+                case 1 -> 0; // (C, D)
+                case 2 -> 5; // (D, C)
+                default -> 1; // (D, D)
+            };
+        }
+    }
+
+    private static final class StagHunt extends Payoff {
+        StagHunt() {
+            super("Stag Hunt");
+        }
+
+        @Override
+        int points(int outcome) {
+            return switch (outcome) {
+                case 3 -> 4;
+                case 1 -> 0;
+                case 2 -> 3;
+                default -> 1;
+            };
+        }
+    }
+
+    private static final class Snowdrift extends Payoff {
+        Snowdrift() {
+            super("Snowdrift");
+        }
+
+        @Override
+        int points(int outcome) {
+            return switch (outcome) {
+                case 3 -> 3;
+                case 1 -> 1;
+                case 2 -> 5;
+                default -> 0;
+            };
+        }
+    }
+
+    private static final class Table extends Payoff {
+        private final int[] table = new int[4];
+
+        Table(int temptation, int reward, int punishment, int sucker) {
+            super("Custom");
+            table[0] = punishment; // (D, D)
+            table[1] = sucker;     // (C, D)
+            table[2] = temptation; // (D, C)
+            table[3] = reward;     // (C, C)
+        }
+
+        @Override
+        int points(int outcome) {
+            return table[outcome];
+        }
+    }
+}
@@ -3,29 +3,90 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.function.Consumer;
 import javax.swing.SwingUtilities;
 
 public class PrisonersDilemmaSimulation {
     private static final int TOTAL_GAMES = 50; // 총 반복 횟수
     private static final int ROUNDS_PER_GAME = 100; // 한 게임당 라운드 수
+    private static final boolean PARALLEL_PAIRS = false; // 게임 하나 안의 상대 쌍도 병렬 실행 (게임 수가 코어 수보다 적을 때 유리)
+    private static final boolean ANALYTIC_PAIRS = true; // FSM/기억 1단계 전략끼리의 쌍은 표본 대신 정확한 기대 점수 사용
+    private static final boolean BATCHED_PAIRS = true; // 비트 단위로 표현되는 전략끼리의 나머지 쌍은 64게임씩 묶어 실행
+    // 공통 난수 + 대조 변량: 게임을 같은 시드의 두 개씩 짝지어, 둘째 게임은 첫 게임의 난수를 뒤집어 씀 (Game의 antithetic)
+    // 짝 안에서는 모든 플레이어가 같은 라운드 자리의 난수를 공유하므로 평균 점수와 점수 차의 분산이 줄어듦
+    private static final boolean COMMON_RANDOM_NUMBERS = true;
+    // 순차 정지: 단계마다 게임을 GAMES_PER_LOOK개씩 더 치르며, 최하위가 나머지와 구분되면 멈춤 (false면 단계마다 TOTAL_GAMES)
+    private static final boolean SEQUENTIAL_STOPPING = true;
+    private static final int GAMES_PER_LOOK = 10; // 판정 사이에 치르는 게임 수 (대조 변량 짝의 배수)
+    private static final int MIN_GAMES = 20;      // 첫 판정 전에 치르는 게임 수
+    private static final int MAX_GAMES = 200;     // 단계 하나의 최대 게임 수 (구분되지 않아도 여기서 멈춤)
+    private static final double ERROR_RATE = 0.05; // 구분된 최하위가 실제로는 최하위가 아닐 확률의 상한
+    // 최하위 동률 해소: 동률인 플레이어가 낀 쌍만 TIE_BREAK_GAMES개 게임을 더 치름 (단계의 나머지 결과는 유지)
+    // MAX_TIE_BREAKS번 더 치러도 동률이면 로스터에서 가장 뒤에 있는 플레이어를 탈락시킴 (항상 끝남)
+    private static final int TIE_BREAK_GAMES = 10;
+    private static final int MAX_TIE_BREAKS = 10;
+
+    private static Payoff payoff = Payoff.PRISONERS_DILEMMA; // 2x2 대칭 게임의 보수표 (실행 인자로 바꿈)
+    // 실행 전체의 마스터 시드: 탈락 단계 → 게임 → (플레이어, 상대) 순으로 난수 스트림의 시드를 유도 (Seeds)
+    // 같은 시드면 스레드 수나 실행자 종류와 무관하게 같은 결과
+    private static long masterSeed = new SplittableRandom().nextLong();
+    // 게임 실행 백엔드 (탈락 단계 사이에도 유지, 처음 쓸 때 만듦)
+    private static ExecutionBackend.Kind backendKind = ExecutionBackend.Kind.FORK_JOIN;
+    private static ExecutionBackend backend;
 
     private static List<Player> players;
-    private static Map<Player, Map<Player, Integer>> allGameResults = new ConcurrentHashMap<>();
-    @SuppressWarnings({ "unchecked", "rawtypes" })
-    private static final List<Map<Integer, Map<Player, Integer>>> roundScoresList = Collections.synchronizedList(new ArrayList());
+    // 플레이어 id(로스터 순번)로 인덱싱: allGameResults[p1 id][p2 id] = p1이 p2에게서 얻은 점수 합
+    private static long[][] allGameResults = new long[0][0];
+    // 이번 탈락 단계의 라운드별 점수 집계 (게임마다 접어 넣음, 게임별 라운드 점수는 보관하지 않음)
+    private static RoundSeries roundSeries = new RoundSeries(0, ROUNDS_PER_GAME);
+
+    // Game 밖에서 처리한 쌍(분석, 일괄 실행)의 라운드별 평균 점수 (게임 한 번 기준): extraRoundScores[id][라운드]
+    private static double[][] extraRoundScores = new double[0][];
+
+    private static VarianceTracker variance; // 이번 탈락 단계의 분산 추정 (표본으로 치른 게임 기준)
 
-    private static final List<Map<Player, Double>> gameScoreHistory = new ArrayList<>();
-    private static final List<Player> allPlayers = new ArrayList<>(); // 고정된 전체 플레이어 목록
+    // 이번 탈락 단계의 진행 상태 (startStep에서 만들고, playGames로 게임을 더하고, finishStep에서 점수판으로 합침)
+    private static long stepSeed;
+    private static MarkovEvaluator stepEvaluator;  // 기대 점수를 정확히 계산하는 쌍 (없으면 null)
+    private static BatchEngine stepBatch;         // 64게임씩 묶어 실행하는 쌍 (없으면 null)
+    // 작업자마다 로스터를 한 번만 복제하고, 이후 게임은 reset()으로 되돌려 재사용
+    // 작업자는 스레드가 아니라 풀에 두고 게임마다 빌려 씀 → 게임마다 스레드가 새로 생기는 가상 스레드에서도 재사용
+    private static Deque<Worker> stepWorkers = new ConcurrentLinkedDeque<>();
+    private static SequentialStopping stopping;   // 순차 정지 판정 (고정 게임 수로 실행하면 null)
+    private static int stepGames = 0;             // 이번 단계에서 치른 게임 수 (평균 점수의 분모)
+    private static long stepNanos = 0;            // 이번 단계에서 게임을 실행하는 데 걸린 시간 (실행 백엔드 조정용)
+    // 동률 해소로 더 치른 게임 수: tieGames[p1 id][p2 id] (해당 쌍의 평균 점수 분모에 더함, 없으면 null)
+    private static long[][] tieGames;
 
+    private static final List<double[]> gameScoreHistory = new ArrayList<>(); // 단계별 평균 점수 [id] (빠진 플레이어는 NaN)
+    private static final List<Player> allPlayers = new ArrayList<>(); // 고정된 전체 플레이어 목록 (인덱스 = id)
+
+    // args[0]: 보수표 (계열 이름 pd, stag-hunt, snowdrift 또는 "T,R,P,S"), 없으면 죄수의 딜레마
+    // args[1]: 마스터 시드 (없으면 무작위로 정하고 출력하므로 그 값으로 다시 실행할 수 있음)
+    // args[2]: 실행 백엔드 (forkjoin, virtual, fixed), 없으면 forkjoin
     public static void main(String[] args) {
+        if (args.length > 0) {
+            payoff = Payoff.parse(args[0]);
+        }
+        if (args.length > 1) {
+            masterSeed = Long.parseLong(args[1].trim());
+        }
+        if (args.length > 2) {
+            backendKind = ExecutionBackend.Kind.parse(args[2]);
+        }
+        System.out.println("보수표: " + payoff);
+        System.out.println("마스터 시드: " + masterSeed);
         runSimulationUntilOneLeft();
+        System.out.println(backend().report());
+        backend.close();
+        backend = null;
 
-        Map<Player, Map<Integer, Double>> averageRoundScores = calculateDeltaScores(); // 또는 calculateDeltaScores();
+        double[][] averageRoundScores = calculateDeltaScores(); // 또는 calculateDeltaScores();
         exportGameScoresToCSV("round_ranks.csv");
         //  그래프 실행 (여기서 ScoreGraph 호출)
         SwingUtilities.invokeLater(() -> {
             @SuppressWarnings("unused")
-            ScoreGraph graph = new ScoreGraph(averageRoundScores, ROUNDS_PER_GAME);
+            ScoreGraph graph = new ScoreGraph(players, averageRoundScores, ROUNDS_PER_GAME);
             //graph.displayGraphWithBestFit(new ArrayList<>());
         });
     }
@@ -42,16 +103,13 @@ public class PrisonersDilemmaSimulation {
     
             // 각 게임 기록
             for (int gameIndex = 0; gameIndex < gameScoreHistory.size(); gameIndex++) {
-                Map<Player, Double> scoreMap = gameScoreHistory.get(gameIndex);
+                double[] scores = gameScoreHistory.get(gameIndex);
                 writer.write(String.valueOf(gameIndex + 1));
     
                 for (Player p : allPlayers) {
-                    Optional<Player> matched = scoreMap.keySet().stream()
-                        .filter(player -> player.getName().equals(p.getName()))
-                        .findFirst();
-    
-                    if (matched.isPresent()) {
-                        writer.write("," + String.format("%.2f", scoreMap.get(matched.get())));
+                    double score = scores[p.getId()];
+                    if (!Double.isNaN(score)) {
+                        writer.write("," + String.format("%.2f", score));
                     } else {
                         writer.write(",-");
                     }
@@ -65,127 +123,470 @@ public class PrisonersDilemmaSimulation {
         }
     }    
 
+    // stepSeed: 이번 탈락 단계의 시드 (게임 i의 시드 = Seeds.derive(stepSeed, Seeds.GAME_STREAM, i))
+    public static void runSimulation(int numGames, long stepSeed) {
+        startStep(stepSeed, false);
+        playGames(0, numGames);
+        finishStep();
+    }
+
+    // 순차 정지: MIN_GAMES를 치른 뒤 GAMES_PER_LOOK개마다 판정해, 최하위가 구분되거나 MAX_GAMES에 닿으면 멈춤
+    // 게임 번호와 시드는 고정 게임 수로 실행할 때와 같음, 치른 게임 수를 돌려줌
+    public static int runSequentialSimulation(long stepSeed) {
+        startStep(stepSeed, true);
+        int games = 0;
+        while (games < MAX_GAMES) {
+            int next = Math.min(MAX_GAMES, Math.max(MIN_GAMES, games + GAMES_PER_LOOK));
+            playGames(games, next);
+            games = next;
+            if (stopping.separatedLast(players) != null) {
+                break;
+            }
+        }
+        finishStep();
+        return games;
+    }
+
+    // 판정 횟수의 상한 (오류율 보정에 사용)
+    private static int maxLooks() {
+        return 1 + (MAX_GAMES - MIN_GAMES + GAMES_PER_LOOK - 1) / GAMES_PER_LOOK;
+    }
+
+    private static void startStep(long seed, boolean sequential) {
+        stepSeed = seed;
+        stepGames = 0;
+        stepNanos = 0;
+        tieGames = null;
+        stepWorkers = new ConcurrentLinkedDeque<>();
+        roundSeries = new RoundSeries(rosterSize(), ROUNDS_PER_GAME);
+        extraRoundScores = new double[rosterSize()][];
+        int unitSize = COMMON_RANDOM_NUMBERS ? 2 : 1;
+        variance = new VarianceTracker(rosterSize(), unitSize);
+        // 기대 점수를 정확히 계산할 수 있는 쌍은 게임에서 빼고, 표본이 필요한 쌍만 실행
+        stepEvaluator = ANALYTIC_PAIRS
+            ? new MarkovEvaluator(players, ROUNDS_PER_GAME, payoff)
+            : null;
+        stepBatch = BATCHED_PAIRS && MarkovEvaluator.isApplicable(players)
+            ? new BatchEngine(players, ROUNDS_PER_GAME, stepEvaluator, payoff)
+            : null;
+        stopping = sequential ? new SequentialStopping(rosterSize(), unitSize, ERROR_RATE, maxLooks()) : null;
+        if (stopping != null && stepEvaluator != null) {
+            for (int i = 0; i < players.size(); i++) {
+                for (int j = 0; j < players.size(); j++) {
+                    if (i != j && stepEvaluator.isAnalytic(i, j)) {
+                        stopping.addOffset(players.get(i).getId(), stepEvaluator.getPairScore(i, j));
+                    }
+                }
+            }
+        }
+    }
+
+    // 게임 [from, to)를 실행하고 게임 순서가 필요한 집계에 더함 (이전 호출에 이어서, from == 지금까지 치른 게임 수)
     @SuppressWarnings("CallToPrintStackTrace")
-    public static void runSimulation(int numGames) {
-        roundScoresList.clear();
-        allGameResults.clear();
-        int availableCores = Runtime.getRuntime().availableProcessors();
-        int threadPoolSize = Math.min(availableCores * 2, 100); // 최대 100개 제한
-        ExecutorService executor = Executors.newFixedThreadPool(threadPoolSize);
+    private static void playGames(int from, int to) {
+        MarkovEvaluator evaluator = stepEvaluator;
+        BatchEngine batch = stepBatch;
+        Deque<Worker> workers = stepWorkers;
+        if (batch != null) {
+            long[][] batchTotals = stopping != null ? new long[to - from][players.size()] : null;
+            batch.play(from, to, Seeds.derive(stepSeed, Seeds.BATCH_STREAM), batchTotals);
+            if (batchTotals != null) {
+                for (int g = 0; g < to - from; g++) {
+                    for (int i = 0; i < players.size(); i++) {
+                        stopping.add(from + g, players.get(i).getId(), batchTotals[g][i]);
+                    }
+                }
+            }
+        }
+        ExecutionBackend executor = backend();
+        long start = System.nanoTime();
         List<Future<Game>> futures = new ArrayList<>();
+        // 내부 상태가 없는 전략은 복제 대신 원본 인스턴스를 공유
+        // 결과를 모으는 쪽은 게임의 점수 배열과 플레이어 id만 읽으므로 다음 게임이 플레이어를 재사용해도 됨
 
         // 각 게임을 비동기적으로 실행
-        for (int gameIndex = 0; gameIndex < numGames; gameIndex++) {
-            futures.add(executor.submit(() -> {
-                
-                //  각 게임마다 독립적인 Player 리스트 생성 (클론 사용)
-                List<Player> clonedPlayers = players.stream()
-                    .map(Player::cloneWithNewStrategy)  //  독립적인 전략을 가진 새로운 플레이어 사용
-                    .toList();
-                Game game = new Game(clonedPlayers, ROUNDS_PER_GAME);
-                game.playAndGetResults();
-                return game;
+        for (int gameIndex = from; gameIndex < to; gameIndex++) {
+            // 이 게임만 따로 다시 실행할 때 쓰는 시드 (대조 변량이면 짝을 이루는 두 게임이 같은 시드)
+            long gameSeed = Seeds.derive(stepSeed, Seeds.GAME_STREAM, COMMON_RANDOM_NUMBERS ? gameIndex / 2 : gameIndex);
+            boolean antithetic = COMMON_RANDOM_NUMBERS && gameIndex % 2 == 1;
+            futures.add(submitGame(executor, workers, gameSeed, antithetic, game -> {
+                if (evaluator != null) {
+                    evaluator.excludeFrom(game);
+                }
+                if (batch != null) {
+                    batch.excludeFrom(game);
+                }
             }));
         }        
 
         // 모든 게임이 완료될 때까지 대기하고 결과 병합
+        // 상대별 점수는 작업자가 각자 배열에 더해 두었으므로, 여기서는 게임 순서가 필요한 집계만 함
+        // 병합은 이 스레드에서만 하므로 집계 배열/목록은 동기화하지 않음 (Future.get이 게임 결과의 가시성을 보장)
+        int gameIndex = from;
         for (Future<Game> future : futures) {
             try {
                 Game game = future.get(); // 게임 실행 후 결과 가져오기
-                mergeResults(game.getScoreBoard()); // 게임 결과 병합
-                roundScoresList.add(game.getRoundScores()); //  각 게임의 라운드별 점수를 저장
+                roundSeries.add(game); // 각 게임의 라운드별 점수를 집계에 더함
+                variance.add(game); // 게임 번호 순서대로 (대조 변량 짝이 연달아 옴)
+                if (stopping != null) {
+                    addToStopping(game, gameIndex);
+                }
             } catch (InterruptedException | ExecutionException e) {
                 e.printStackTrace();
             }
+            gameIndex++;
         }
+        stepNanos += System.nanoTime() - start;
+        stepGames = to;
+    }
 
-        executor.shutdown();
-        try {
-            if (!executor.awaitTermination(60, TimeUnit.SECONDS)) {
-                executor.shutdownNow();
+    // 작업자의 로스터로 게임 하나를 실행하는 작업을 제출 (exclusions로 치르지 않을 쌍을 정함)
+    // PARALLEL_PAIRS면 게임 안의 상대 쌍도 병렬로 실행, 끝난 게임은 작업자의 점수 배열에 더함
+    private static Future<Game> submitGame(ExecutionBackend executor, Deque<Worker> workers, long gameSeed,
+                                           boolean antithetic, Consumer<Game> exclusions) {
+        return executor.submit(() -> {
+            Worker worker = workers.poll();
+            if (worker == null) {
+                worker = new Worker(players, rosterSize());
             }
-        } catch (InterruptedException e) {
-            executor.shutdownNow();
+            for (Player p : worker.players) {
+                p.reset();
+            }
+            Game game = new Game(worker.players, ROUNDS_PER_GAME, gameSeed, payoff, antithetic, worker.buffers);
+            exclusions.accept(game);
+            if (PARALLEL_PAIRS) {
+                game.playAndGetResults(ForkJoinPool.commonPool());
+            } else {
+                game.playAndGetResults();
+            }
+            worker.add(game);
+            workers.push(worker);
+            return game;
+        });
+    }
+
+    // 게임에서 플레이어마다 얻은 점수 합을 순차 정지 판정에 더함
+    private static void addToStopping(Game game, int gameIndex) {
+        List<Player> gamePlayers = game.getPlayers();
+        for (int i = 0; i < gamePlayers.size(); i++) {
+            long total = 0;
+            for (int j = 0; j < gamePlayers.size(); j++) {
+                if (i != j) {
+                    total += game.getPairScore(i, j);
+                }
+            }
+            stopping.add(gameIndex, gamePlayers.get(i).getId(), total);
         }
     }
 
-    private static synchronized void mergeResults(Map<Player, Map<Player, Integer>> gameResults) {
-        for (Player p1 : gameResults.keySet()) {
-            allGameResults.putIfAbsent(p1, new ConcurrentHashMap<>());
-    
-            for (Player p2 : gameResults.get(p1).keySet()) {
-                int currentScore = gameResults.get(p1).get(p2);
-    
-                //  기존 점수 가져오기
-                int previousScore = allGameResults.get(p1).getOrDefault(p2, 0);
-                int newTotalScore = previousScore + (currentScore);
-    
-                //  업데이트된 점수 반영
-                allGameResults.get(p1).put(p2, newTotalScore);
+    // 단계 마무리: 작업자별 점수를 합치고 Game 밖에서 처리한 쌍의 결과를 치른 게임 수만큼 더함
+    // 실행 백엔드에는 단계 전체의 처리량을 한 번만 기록 (순차 정지의 판정 구간마다 재면 표본이 너무 작음)
+    private static void finishStep() {
+        backend().record(stepGames, (long) stepGames * gamePairs(), stepNanos);
+        // 모든 작업이 끝났으므로 작업자는 모두 풀에 돌아와 있음
+        allGameResults = sum(new ArrayList<>(stepWorkers), 0, stepWorkers.size());
+        if (stepEvaluator != null) {
+            mergeAnalyticResults(stepEvaluator, stepGames);
+        }
+        if (stepBatch != null) {
+            mergeBatchResults(stepBatch, stepGames);
+        }
+    }
+
+    // Game이 실제로 치르는 상대 쌍 수 (분석 쌍과 일괄 실행 쌍은 제외)
+    private static int gamePairs() {
+        int count = 0;
+        for (int i = 0; i < players.size(); i++) {
+            for (int j = i + 1; j < players.size(); j++) {
+                if ((stepEvaluator == null || !stepEvaluator.isAnalytic(i, j))
+                    && (stepBatch == null || !stepBatch.isBatched(i, j))) {
+                    count++;
+                }
             }
         }
-    }    
+        return count;
+    }
+
+    // 동률 해소 게임 attempt회차: tied 중 한 명이라도 낀 쌍(관련 쌍)만 TIE_BREAK_GAMES개 게임만큼 점수판에 더함
+    // - 분석 쌍은 기대 점수가 정확하므로 제외, 일괄 실행 쌍은 따로 만든 BatchEngine으로 관련 쌍만 치름 (없으면 만들지 않음)
+    // - 모든 전략이 상대 쌍 내부 정보만 쓰고 상대 점수를 읽지 않으면 관련 없는 쌍은 치르지 않음
+    //   아니면(다른 상대와의 결과나 점수를 읽는 전략이 있으면) 단계의 게임과 같은 쌍을 모두 치르고 관련 쌍만 셈
+    //   → 일부 쌍만 치르면 그런 전략이 보는 점수와 라운드 수가 달라져 표본이 치우침
+    // - 라운드별 집계와 분산 추정은 동률 해소 게임이 섞이지 않도록 더하지 않음
+    // 관련 쌍이 모두 분석 쌍이면(점수가 기댓값으로 정해져 더 치러도 동률) 치르지 않고 false
+    @SuppressWarnings("CallToPrintStackTrace")
+    private static boolean playTieBreak(List<Player> tied, int attempt) {
+        MarkovEvaluator evaluator = stepEvaluator;
+        BatchEngine batch = stepBatch;
+        int size = players.size();
+        boolean[] involved = new boolean[size];
+        for (int i = 0; i < size; i++) {
+            involved[i] = tied.contains(players.get(i));
+        }
+        // 더할 쌍: counted[i * size + j] (i < j), 관련 쌍 중 분석 쌍이 아닌 것
+        boolean[] counted = new boolean[size * size];
+        boolean sampled = false;
+        boolean gamePairs = false; // Game으로 치르는 관련 쌍이 있는지
+        boolean batchPairs = false; // 일괄 실행으로 치르는 관련 쌍이 있는지
+        for (int i = 0; i < size; i++) {
+            for (int j = i + 1; j < size; j++) {
+                counted[i * size + j] = (involved[i] || involved[j]) && (evaluator == null || !evaluator.isAnalytic(i, j));
+                sampled |= counted[i * size + j];
+                gamePairs |= counted[i * size + j] && (batch == null || !batch.isBatched(i, j));
+                batchPairs |= counted[i * size + j] && batch != null && batch.isBatched(i, j);
+            }
+        }
+        if (!sampled) {
+            return false;
+        }
+        if (tieGames == null) {
+            tieGames = new long[rosterSize()][rosterSize()];
+        }
+        long[][] extra = new long[rosterSize()][rosterSize()];
+        if (gamePairs) {
+            boolean targeted = isPairLocalRoster();
+            Deque<Worker> workers = new ConcurrentLinkedDeque<>();
+            List<Future<Game>> futures = new ArrayList<>();
+            for (int gameIndex = 0; gameIndex < TIE_BREAK_GAMES; gameIndex++) {
+                long gameSeed = Seeds.derive(stepSeed, Seeds.TIE_STREAM, attempt,
+                    COMMON_RANDOM_NUMBERS ? gameIndex / 2 : gameIndex);
+                boolean antithetic = COMMON_RANDOM_NUMBERS && gameIndex % 2 == 1;
+                futures.add(submitGame(backend(), workers, gameSeed, antithetic, game -> {
+                    if (evaluator != null) {
+                        evaluator.excludeFrom(game);
+                    }
+                    if (batch != null) {
+                        batch.excludeFrom(game);
+                    }
+                    if (targeted) {
+                        for (int i = 0; i < size; i++) {
+                            for (int j = i + 1; j < size; j++) {
+                                if (!counted[i * size + j]) {
+                                    game.exclude(i, j);
+                                }
+                            }
+                        }
+                    }
+                }));
+            }
+            for (Future<Game> future : futures) {
+                try {
+                    future.get();
+                } catch (InterruptedException | ExecutionException e) {
+                    e.printStackTrace();
+                }
+            }
+            extra = sum(new ArrayList<>(workers), 0, workers.size());
+        }
+        BatchEngine tieBatch = null;
+        if (batchPairs) {
+            // 일괄 실행 쌍은 서로 영향이 없으므로 로스터와 무관하게 관련 쌍만 치름
+            tieBatch = new BatchEngine(players, ROUNDS_PER_GAME, evaluator, payoff);
+            for (int i = 0; i < size; i++) {
+                for (int j = i + 1; j < size; j++) {
+                    if (!counted[i * size + j]) {
+                        tieBatch.exclude(i, j);
+                    }
+                }
+            }
+            tieBatch.play(TIE_BREAK_GAMES, Seeds.derive(stepSeed, Seeds.TIE_STREAM, attempt));
+        }
+        for (int i = 0; i < size; i++) {
+            int a = players.get(i).getId();
+            for (int j = 0; j < size; j++) {
+                int b = players.get(j).getId();
+                if (i == j || !counted[Math.min(i, j) * size + Math.max(i, j)]) {
+                    continue;
+                }
+                allGameResults[a][b] += tieBatch != null && tieBatch.isBatched(i, j)
+                    ? tieBatch.getPairScore(i, j)
+                    : extra[a][b];
+                tieGames[a][b] += TIE_BREAK_GAMES;
+            }
+        }
+        return true;
+    }
+
+    // 모든 전략이 상대 쌍 내부 정보만 쓰고(Strategy.isPairLocal) 상대 점수를 읽지 않는지
+    // (그러면 일부 쌍만 치러도 각 쌍의 결과 분포가 전체 게임을 치를 때와 같음)
+    private static boolean isPairLocalRoster() {
+        for (Player p : players) {
+            if (!p.getStrategy().isPairLocal() || p.getStrategy().readsOpponentScore()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 실행 백엔드 (없으면 backendKind로 만듦)
+    private static ExecutionBackend backend() {
+        if (backend == null) {
+            backend = ExecutionBackend.create(backendKind);
+        }
+        return backend;
+    }
+
+    // 게임을 실행하는 작업자 상태: 로스터 복제본과 진행용 배열, 이 작업자가 치른 게임의 상대별 점수 합
+    // 한 번에 한 게임만 쓰므로 잠금 없이 갱신 (단계가 끝나면 sum으로 합침)
+    private static final class Worker {
+        final List<Player> players;
+        final Game.Buffers buffers = new Game.Buffers();
+        // 플레이어 id로 인덱싱: pairScores[p1 id][p2 id] = p1이 p2에게서 얻은 점수 합
+        final long[][] pairScores;
+
+        Worker(List<Player> roster, int rosterSize) {
+            this.players = roster.stream()
+                .map(Player::cloneWithNewStrategy)
+                .toList();
+            this.pairScores = new long[rosterSize][rosterSize];
+        }
+
+        // 게임 안의 순번(i, j)을 플레이어 id로 바꿔 점수 합에 더함
+        void add(Game game) {
+            for (int i = 0; i < players.size(); i++) {
+                long[] scores = pairScores[players.get(i).getId()];
+                for (int j = 0; j < players.size(); j++) {
+                    if (i != j) {
+                        scores[players.get(j).getId()] += game.getPairScore(i, j);
+                    }
+                }
+            }
+        }
+    }
+
+    // 작업자 [from, to)의 상대별 점수 합: 반씩 나눠 합친 뒤 더하는 트리 축약 (정수 합이라 작업자 수, 순서와 무관하게 같음)
+    // 결과 배열은 왼쪽 절반의 것을 재사용 (단계가 끝난 작업자는 다시 쓰지 않음)
+    private static long[][] sum(List<Worker> workers, int from, int to) {
+        if (to - from == 0) {
+            return new long[rosterSize()][rosterSize()];
+        }
+        if (to - from == 1) {
+            return workers.get(from).pairScores;
+        }
+        int middle = (from + to) >>> 1;
+        long[][] left = sum(workers, from, middle);
+        long[][] right = sum(workers, middle, to);
+        for (int a = 0; a < left.length; a++) {
+            long[] row = left[a];
+            long[] other = right[a];
+            for (int b = 0; b < row.length; b++) {
+                row[b] += other[b];
+            }
+        }
+        return left;
+    }
+
+    // 로스터 전체 크기 (플레이어 id 범위)
+    private static int rosterSize() {
+        return allPlayers.size();
+    }
+
+    // Game 밖에서 처리한 쌍의 라운드별 점수 배열 (없으면 만듦)
+    private static double[] extraRounds(Player player) {
+        double[] rounds = extraRoundScores[player.getId()];
+        if (rounds == null) {
+            rounds = new double[ROUNDS_PER_GAME + 1];
+            extraRoundScores[player.getId()] = rounds;
+        }
+        return rounds;
+    }
+
+    // 분석 쌍의 기대 점수를 게임 수만큼 더함 (점수판은 정수이므로 반올림)
+    private static void mergeAnalyticResults(MarkovEvaluator evaluator, int numGames) {
+        for (int i = 0; i < players.size(); i++) {
+            Player p1 = players.get(i);
+            long[] scores = allGameResults[p1.getId()];
+            for (int j = 0; j < players.size(); j++) {
+                if (i != j && evaluator.isAnalytic(i, j)) {
+                    scores[players.get(j).getId()] += Math.round(evaluator.getPairScore(i, j) * numGames);
+                }
+            }
+
+            double[] rounds = extraRounds(p1);
+            for (int round = 1; round <= ROUNDS_PER_GAME; round++) {
+                rounds[round] += evaluator.getRoundScore(round, i);
+            }
+        }
+    }
+
+    // 일괄 실행한 쌍의 점수 합을 점수판에 더하고, 라운드별 점수는 게임당 평균으로 보관
+    private static void mergeBatchResults(BatchEngine batch, int numGames) {
+        for (int i = 0; i < players.size(); i++) {
+            Player p1 = players.get(i);
+            long[] scores = allGameResults[p1.getId()];
+            for (int j = 0; j < players.size(); j++) {
+                if (i != j && batch.isBatched(i, j)) {
+                    scores[players.get(j).getId()] += batch.getPairScore(i, j);
+                }
+            }
+
+            double[] rounds = extraRounds(p1);
+            for (int round = 1; round <= ROUNDS_PER_GAME; round++) {
+                rounds[round] += batch.getRoundScore(round, i) / (double) numGames;
+            }
+        }
+    }
 
     private static void createPlayers(List<Player> removeList) {
         players = null;
-        List<Player> tempPlayers = new ArrayList<>();
-        //tempPlayers.add(new Player("교대 협력자 하루", new AlternateCooperate()));
-        //tempPlayers.add(new Player("교대 배신자 이로하", new AlternateDefect()));
-        tempPlayers.add(new Player("순수한 협력가 카나에", new AlwaysCooperate()));
-        //tempPlayers.add(new Player("냉혈한 배신자 아카네", new AlwaysDefect()));
-        //tempPlayers.add(new Player("나쁜 사람 미루", new BadPerson()));
-        //tempPlayers.add(new Player("이분법자 츠바사", new BinaryThinking()));
-        //tempPlayers.add(new Player("사기캐 시유", new Cheater()));
-        //tempPlayers.add(new Player("연대책임론자 안즈", new CollectiveResponsibility()));
-        //tempPlayers.add(new Player("상황을 판단하려 드는 아이리스", new ConditionalCommitment()));
-        //tempPlayers.add(new Player("보복을 두려워하는 배신자 사라", new ConditionalForgiver()));
-        tempPlayers.add(new Player("사과할줄 아는 루나", new ContriteTitForTat()));
-        tempPlayers.add(new Player("빚을 잊지 않는 아이코", new Debt()));
-        //tempPlayers.add(new Player("정제된 광기 히카리", new DeceptiveAdaptation()));
-        tempPlayers.add(new Player("계산적인 장사꾼 이치카", new DiscountFactor()));
-        tempPlayers.add(new Player("자애로운 협력가 리나", new DynamicTitForTat()));
-        tempPlayers.add(new Player("생각하는 보복가 카즈하", new EnhancedTitForTat()));
-        //tempPlayers.add(new Player("약육강식 노엘", new Flatterer()));
-        tempPlayers.add(new Player("용서하는 자 모모", new ForgivingTitForTat()));
-        //tempPlayers.add(new Player("도박사 키리코", new Gambler()));
-        tempPlayers.add(new Player("감정적인 유리멘탈 치카코", new GlassMind()));
-        //tempPlayers.add(new Player("좋은 사람 세리", new GoodPerson()));
-        tempPlayers.add(new Player("신중한 보복가 미카", new Gradual()));
-        //tempPlayers.add(new Player("즉흥적인 배짱이 하루카", new Grasshopper()));
-        //tempPlayers.add(new Player("탐욕적인 기회주의자 레이나", new GreedyTitForTat()));
-        tempPlayers.add(new Player("복수의 사도 카오리", new GrimTrigger()));
-        tempPlayers.add(new Player("협력 유도자 스즈메", new GuidingCooperator()));
-        //tempPlayers.add(new Player("철저한 분석가 나나세", new HandOfGod()));
-        tempPlayers.add(new Player("뒷끝있는 협력자 키누에", new HardTitForTat()));
-        //tempPlayers.add(new Player("반동분자 유리", new Merchant()));
-        //tempPlayers.add(new Player("진화하는 히토미", new Mutation()));
-        tempPlayers.add(new Player("분탕종자 레이", new MutualDestruction()));
-        //tempPlayers.add(new Player("기분파 인간 아이", new NoisyTitForTat()));
-        tempPlayers.add(new Player("전략적 판단가 니코", new OmegaTitForTat()));
-        //tempPlayers.add(new Player("성향 시험자 아리스", new OpponentTester()));
-        //tempPlayers.add(new Player("교활한 인간 린", new Opportunist()));
-        tempPlayers.add(new Player("패턴 파괴자 우이", new PatternBreaker()));
-        tempPlayers.add(new Player("과거를 기억하는 미나", new Pavlov()));
-        tempPlayers.add(new Player("화해를 원하는 모네", new PeacefulTitForTat()));
-        //tempPlayers.add(new Player("영악한 착취자 아스나", new Predator()));
-        tempPlayers.add(new Player("위대한 예언가 유키카", new Predictor()));
-        tempPlayers.add(new Player("확률적 협력가 유즈키", new ProbabilisticTitForTat()));
-        tempPlayers.add(new Player("최근을 더 고려하는 리츠", new ProbabilisticWeightedTitForTat()));
-        //tempPlayers.add(new Player("미친 변덕쟁이 미유", new RandomStrategy()));
-        //tempPlayers.add(new Player("의심을 거두는 아오이", new ReverseGrimTrigger()));
-        //tempPlayers.add(new Player("붉은 혁명 루카리", new RobinHood()));
-        tempPlayers.add(new Player("인내하는 카렌", new Saint()));
-        tempPlayers.add(new Player("첫 인상만 보는 하츠네", new ScammerTester()));
-        //tempPlayers.add(new Player("지능형 배신자 사오리", new ShadowDefect()));
-        tempPlayers.add(new Player("가차없는 코노하", new Shepherd()));
-        tempPlayers.add(new Player("선입견에 가득 찬 니카", new StereoType()));
-        tempPlayers.add(new Player("고뇌하는 협력가 마리", new SlowTitForTat()));
-        //tempPlayers.add(new Player("교활한 협력가 나츠키", new SuspiciousTitForTat()));
-        tempPlayers.add(new Player("정석적인 인간 아야메", new TitForTat()));
-        tempPlayers.add(new Player("실리주의자 사에", new TitForTatLastDefect()));
-        //tempPlayers.add(new Player("비열한 사기꾼 히나코", new Tranquilizer()));
-        //tempPlayers.add(new Player("멍텅구리 치히로", new Troller()));
-        tempPlayers.add(new Player("두 배로 응징하는 미호", new TwoTitsForTat()));
+        List<Player> tempPlayers = new ArrayList<>(); // id = 로스터 순번 (탈락 후 다시 만들어도 같은 id)
+        //tempPlayers.add(new Player(tempPlayers.size(), "교대 협력자 하루", new AlternateCooperate()));
+        //tempPlayers.add(new Player(tempPlayers.size(), "교대 배신자 이로하", new AlternateDefect()));
+        tempPlayers.add(new Player(tempPlayers.size(), "순수한 협력가 카나에", new AlwaysCooperate()));
+        //tempPlayers.add(new Player(tempPlayers.size(), "냉혈한 배신자 아카네", new AlwaysDefect()));
+        //tempPlayers.add(new Player(tempPlayers.size(), "나쁜 사람 미루", new BadPerson()));
+        //tempPlayers.add(new Player(tempPlayers.size(), "이분법자 츠바사", new BinaryThinking()));
+        //tempPlayers.add(new Player(tempPlayers.size(), "사기캐 시유", new Cheater()));
+        //tempPlayers.add(new Player(tempPlayers.size(), "연대책임론자 안즈", new CollectiveResponsibility()));
+        //tempPlayers.add(new Player(tempPlayers.size(), "상황을 판단하려 드는 아이리스", new ConditionalCommitment()));
+        //tempPlayers.add(new Player(tempPlayers.size(), "보복을 두려워하는 배신자 사라", new ConditionalForgiver()));
+        tempPlayers.add(new Player(tempPlayers.size(), "사과할줄 아는 루나", new ContriteTitForTat()));
+        tempPlayers.add(new Player(tempPlayers.size(), "빚을 잊지 않는 아이코", new Debt()));
+        //tempPlayers.add(new Player(tempPlayers.size(), "정제된 광기 히카리", new DeceptiveAdaptation()));
+        tempPlayers.add(new Player(tempPlayers.size(), "계산적인 장사꾼 이치카", new DiscountFactor()));
+        tempPlayers.add(new Player(tempPlayers.size(), "자애로운 협력가 리나", new DynamicTitForTat()));
+        tempPlayers.add(new Player(tempPlayers.size(), "생각하는 보복가 카즈하", new EnhancedTitForTat()));
+        //tempPlayers.add(new Player(tempPlayers.size(), "약육강식 노엘", new Flatterer()));
+        tempPlayers.add(new Player(tempPlayers.size(), "용서하는 자 모모", new ForgivingTitForTat()));
+        //tempPlayers.add(new Player(tempPlayers.size(), "도박사 키리코", new Gambler()));
+        tempPlayers.add(new Player(tempPlayers.size(), "감정적인 유리멘탈 치카코", new GlassMind()));
+        //tempPlayers.add(new Player(tempPlayers.size(), "좋은 사람 세리", new GoodPerson()));
+        tempPlayers.add(new Player(tempPlayers.size(), "신중한 보복가 미카", new Gradual()));
+        //tempPlayers.add(new Player(tempPlayers.size(), "즉흥적인 배짱이 하루카", new Grasshopper()));
+        //tempPlayers.add(new Player(tempPlayers.size(), "탐욕적인 기회주의자 레이나", new GreedyTitForTat()));
+        tempPlayers.add(new Player(tempPlayers.size(), "복수의 사도 카오리", new GrimTrigger()));
+        tempPlayers.add(new Player(tempPlayers.size(), "협력 유도자 스즈메", new GuidingCooperator()));
+        //tempPlayers.add(new Player(tempPlayers.size(), "철저한 분석가 나나세", new HandOfGod()));
+        tempPlayers.add(new Player(tempPlayers.size(), "뒷끝있는 협력자 키누에", new HardTitForTat()));
+        //tempPlayers.add(new Player(tempPlayers.size(), "반동분자 유리", new Merchant()));
+        //tempPlayers.add(new Player(tempPlayers.size(), "진화하는 히토미", new Mutation()));
+        tempPlayers.add(new Player(tempPlayers.size(), "분탕종자 레이", new MutualDestruction()));
+        //tempPlayers.add(new Player(tempPlayers.size(), "기분파 인간 아이", new NoisyTitForTat()));
+        tempPlayers.add(new Player(tempPlayers.size(), "전략적 판단가 니코", new OmegaTitForTat()));
+        //tempPlayers.add(new Player(tempPlayers.size(), "성향 시험자 아리스", new OpponentTester()));
+        //tempPlayers.add(new Player(tempPlayers.size(), "교활한 인간 린", new Opportunist()));
+        tempPlayers.add(new Player(tempPlayers.size(), "패턴 파괴자 우이", new PatternBreaker()));
+        tempPlayers.add(new Player(tempPlayers.size(), "과거를 기억하는 미나", new Pavlov()));
+        tempPlayers.add(new Player(tempPlayers.size(), "화해를 원하는 모네", new PeacefulTitForTat()));
+        //tempPlayers.add(new Player(tempPlayers.size(), "영악한 착취자 아스나", new Predator()));
+        tempPlayers.add(new Player(tempPlayers.size(), "위대한 예언가 유키카", new Predictor()));
+        tempPlayers.add(new Player(tempPlayers.size(), "확률적 협력가 유즈키", new ProbabilisticTitForTat()));
+        tempPlayers.add(new Player(tempPlayers.size(), "최근을 더 고려하는 리츠", new ProbabilisticWeightedTitForTat()));
+        //tempPlayers.add(new Player(tempPlayers.size(), "미친 변덕쟁이 미유", new RandomStrategy()));
+        //tempPlayers.add(new Player(tempPlayers.size(), "의심을 거두는 아오이", new ReverseGrimTrigger()));
+        //tempPlayers.add(new Player(tempPlayers.size(), "붉은 혁명 루카리", new RobinHood()));
+        tempPlayers.add(new Player(tempPlayers.size(), "인내하는 카렌", new Saint()));
+        tempPlayers.add(new Player(tempPlayers.size(), "첫 인상만 보는 하츠네", new ScammerTester()));
+        //tempPlayers.add(new Player(tempPlayers.size(), "지능형 배신자 사오리", new ShadowDefect()));
+        tempPlayers.add(new Player(tempPlayers.size(), "가차없는 코노하", new Shepherd()));
+        tempPlayers.add(new Player(tempPlayers.size(), "선입견에 가득 찬 니카", new StereoType()));
+        tempPlayers.add(new Player(tempPlayers.size(), "고뇌하는 협력가 마리", new SlowTitForTat()));
+        //tempPlayers.add(new Player(tempPlayers.size(), "교활한 협력가 나츠키", new SuspiciousTitForTat()));
+        tempPlayers.add(new Player(tempPlayers.size(), "정석적인 인간 아야메", new TitForTat()));
+        tempPlayers.add(new Player(tempPlayers.size(), "실리주의자 사에", new TitForTatLastDefect()));
+        //tempPlayers.add(new Player(tempPlayers.size(), "비열한 사기꾼 히나코", new Tranquilizer()));
+        //tempPlayers.add(new Player(tempPlayers.size(), "멍텅구리 치히로", new Troller()));
+        tempPlayers.add(new Player(tempPlayers.size(), "두 배로 응징하는 미호", new TwoTitsForTat()));
         if (allPlayers.isEmpty()) {
             allPlayers.addAll(tempPlayers);
         }
@@ -193,161 +594,192 @@ public class PrisonersDilemmaSimulation {
         players = tempPlayers;
     }
 
-    private static void displayResult(Map<Player, Map<Player, Integer>> allGameResults) {
-        Map<Player, Double> avgGameScores = new HashMap<>();
+    private static void displayResult(long[][] allGameResults) {
+        double[] avgGameScores = new double[rosterSize()];
 
-        for (Player p1 : allGameResults.keySet()) {
-            int playerTotalScore = 0;
+        for (Player p1 : players) {
+            long playerTotalScore = 0;
 
-            for (Player p2 : allGameResults.get(p1).keySet()) {
-                int score1 = allGameResults.get(p1).getOrDefault(p2, 0);
+            for (long score1 : allGameResults[p1.getId()]) {
                 playerTotalScore += score1;
             }
-            avgGameScores.put(p1, playerTotalScore / (double) (TOTAL_GAMES * players.size()));
+            avgGameScores[p1.getId()] = playerTotalScore / (double) (stepGames * players.size());
         }
 
-        List<Map.Entry<Player, Double>> sortedPlayers = new ArrayList<>(avgGameScores.entrySet());
-        sortedPlayers.sort((a, b) -> Double.compare(b.getValue(), a.getValue()));
+        List<Player> sortedPlayers = new ArrayList<>(players);
+        sortedPlayers.sort((a, b) -> Double.compare(avgGameScores[b.getId()], avgGameScores[a.getId()]));
 
         System.out.println("\n=== 최종 순위 ===");
         int i = 0;
-        for (Map.Entry<Player, Double> entry : sortedPlayers) {
+        for (Player player : sortedPlayers) {
             System.out.printf(++i + "위 %s, 평균 점수: %.2f%n",
-                    entry.getKey().getName(), entry.getValue());
+                    player.getName(), avgGameScores[player.getId()]);
         }
     }
     
-    private static Map<Player, Map<Integer, Double>> calculateDeltaScores() {
-        Map<Player, Map<Integer, Double>> deltaScores = new ConcurrentHashMap<>();
-    
+    // 라운드별 평균 점수 (라운드마다 따로): 결과[id][라운드], 현재 로스터에 없는 플레이어는 null
+    // 실행한 게임 표본의 평균에 Game 밖에서 처리한 쌍(분석, 일괄 실행)의 평균을 더함
+    private static double[][] calculateDeltaScores() {
+        double[][] deltaScores = new double[rosterSize()][];
         for (Player player : players) {
-            deltaScores.putIfAbsent(player, new ConcurrentHashMap<>());
-            Map<Integer, Double> playerAverages = deltaScores.get(player);
-    
-            for (int round = 1; round <= ROUNDS_PER_GAME; round++) {
-                double roundTotal = 0.0;
-                int count = 0;
-    
-                for (Map<Integer, Map<Player, Integer>> gameRoundScores : roundScoresList) {
-                    if (gameRoundScores.containsKey(round) && gameRoundScores.get(round).containsKey(player)) {
-                        roundTotal += gameRoundScores.get(round).get(player);
-                        count++;
-                    }
-                }
-    
-                double roundAverage = (count > 0) ? (roundTotal / count) : 0.0;
-                playerAverages.put(round, roundAverage / players.size());
-            }
+            deltaScores[player.getId()] = perOpponent(roundSeries.delta(player, extraRoundScores[player.getId()]));
         }
-    
         return deltaScores;
     }
 
-    private static Map<Player, Map<Integer, Double>> calculateAverageRoundScores() {
-        Map<Player, Map<Integer, Double>> averageRoundScores = new ConcurrentHashMap<>();
-    
-        // System.out.println("\n=== [DEBUG] 저장된 roundScoresList 데이터 ===");
-        // for (int i = 0; i < roundScoresList.size(); i++) {
-        //     System.out.println("게임 " + (i + 1) + ": " + roundScoresList.get(i));
-        // }
-    
+    // 누적 평균 점수: 결과[id][라운드] (라운드별 평균 점수의 부분합)
+    private static double[][] calculateAverageRoundScores() {
+        double[][] averageRoundScores = new double[rosterSize()][];
         for (Player player : players) {
-            averageRoundScores.putIfAbsent(player, new ConcurrentHashMap<>());
-            Map<Integer, Double> playerAverages = averageRoundScores.get(player);
-    
-            double cumulativeSum = 0.0; // 누적 합 저장
-    
-            for (int round = 1; round <= ROUNDS_PER_GAME; round++) {
-                double roundTotal = 0.0;
-                int count = 0;
-    
-                for (Map<Integer, Map<Player, Integer>> gameRoundScores : roundScoresList) {
-                    if (gameRoundScores.containsKey(round) && gameRoundScores.get(round).containsKey(player)) {
-                        roundTotal += gameRoundScores.get(round).get(player);
-                        count++;
-                    }
-                }
-    
-                double roundAverage = (count > 0) ? (roundTotal / count) : 0.0;
-                cumulativeSum += roundAverage; //  누적 점수 반영
-                playerAverages.put(round, cumulativeSum / players.size());
-            }
+            averageRoundScores[player.getId()] = perOpponent(roundSeries.cumulative(player, extraRoundScores[player.getId()]));
         }
-    
         return averageRoundScores;
     }
+
+    // 게임당 점수를 현재 로스터 크기로 나눔
+    private static double[] perOpponent(double[] values) {
+        for (int round = 1; round < values.length; round++) {
+            values[round] /= players.size();
+        }
+        return values;
+    }
     
     public static void runSimulationUntilOneLeft() {    
         // 원본 players 리스트를 복사해서 수정 가능한 리스트 생성
         List<Player> remove = new ArrayList<>();
+        int step = 0; // 탈락 단계 번호 (단계마다 다른 난수)
+        long gamesPlayed = 0; // 모든 단계에서 치른 게임 수 (순차 정지로 아낀 양 보고)
     
         // ExecutorService나 멀티쓰레딩을 사용할 때, players 리스트는 항상 복사본을 사용하여 수정합니다.
-        while (remove.size() < 57) {
-            createPlayers(remove);
-            runSimulation(TOTAL_GAMES);
+        // 단계마다 한 명씩 반드시 탈락하므로 (동률도 findLastPlacePlayer가 가름) 로스터 크기 - 1 단계 뒤에 끝남
+        createPlayers(remove);
+        while (players.size() > 1) {
+            if (SEQUENTIAL_STOPPING) {
+                int games = runSequentialSimulation(Seeds.derive(masterSeed, step++));
+                System.out.println("게임 수: " + games + (games < MAX_GAMES ? " (최하위 구분됨)" : " (최대 " + MAX_GAMES + "게임)"));
+            } else {
+                runSimulation(TOTAL_GAMES, Seeds.derive(masterSeed, step++));
+            }
+            gamesPlayed += stepGames;
             
             // 마지막 플레이어 찾기
             Player lastPlacePlayer = findLastPlacePlayer(remove);
-    
-            if (lastPlacePlayer != null) {
-                System.out.println(players.size() + "위: " + lastPlacePlayer.getName());
-                
-                // 플레이어 제거 (안전하게)
-                remove.add(lastPlacePlayer);
-                players.remove(lastPlacePlayer);
-            }
+            System.out.println(players.size() + "위: " + lastPlacePlayer.getName());
+
+            // 플레이어 제거 후 다음 단계의 로스터를 새로 만듦
+            remove.add(lastPlacePlayer);
+            createPlayers(remove);
         }
     
         // 최종 우승자 출력
         if (players.size() == 1) {
             System.out.println("최종 우승자: " + players.get(0).getName());
         }
+        if (SEQUENTIAL_STOPPING) {
+            System.out.printf("순차 정지: %d단계, 총 %d게임 (단계마다 %d게임이면 %d, 최대 %d게임이면 %d)%n",
+                step, gamesPlayed, TOTAL_GAMES, (long) step * TOTAL_GAMES, MAX_GAMES, (long) step * MAX_GAMES);
+        }
     
         // 마지막에 다시 unmodifiableList로 설정 (멀티쓰레딩 환경에서 안전하게 읽기 전용으로 설정)
         //players = Collections.unmodifiableList(modifiablePlayers);
     }    
 
-    private static Map<Player, Double> calculateAverageScores(List<Player> remove) {
-        Map<Player, Double> avgScores = new HashMap<>();
+    // 플레이어 id별 게임당 평균 점수 (현재 로스터에 없는 플레이어는 NaN)
+    // 동률 해소 게임을 치른 단계는 쌍마다 치른 게임 수가 다르므로 쌍별 평균의 합
+    private static double[] calculateAverageScores(List<Player> remove) {
+        double[] avgScores = new double[rosterSize()];
+        Arrays.fill(avgScores, Double.NaN);
     
-        for (Player player : allGameResults.keySet()) {
-            int totalScore = 0;
+        for (Player player : players) {
+            if (tieGames != null) {
+                double average = 0.0;
+                for (Player opponent : players) {
+                    if (opponent != player) {
+                        average += allGameResults[player.getId()][opponent.getId()]
+                            / (double) (stepGames + tieGames[player.getId()][opponent.getId()]);
+                    }
+                }
+                avgScores[player.getId()] = average;
+                continue;
+            }
+            long totalScore = 0;
     
-            for (int score : allGameResults.get(player).values()) {
+            for (long score : allGameResults[player.getId()]) {
                 totalScore += score;
             }
     
-            avgScores.put(player, totalScore / (double) TOTAL_GAMES);
+            avgScores[player.getId()] = totalScore / (double) stepGames;
         }
-        allGameResults = new ConcurrentHashMap<>();
         return avgScores;
     }
+
+    // 평균 점수가 가장 낮은 플레이어들 (로스터 순서)
+    private static List<Player> lowestPlayers(double[] avgGameScores) {
+        double minAverageScore = Double.MAX_VALUE;
+        for (Player player : players) {
+            minAverageScore = Math.min(minAverageScore, avgGameScores[player.getId()]);
+        }
+        List<Player> lowest = new ArrayList<>();
+        for (Player player : players) {
+            if (avgGameScores[player.getId()] == minAverageScore) {
+                lowest.add(player);
+            }
+        }
+        return lowest;
+    }
     
+    // 이번 단계의 최하위 (동률이면 동률인 플레이어가 낀 쌍만 더 치러 가르고, 끝까지 동률이면 로스터에서 가장 뒤의 플레이어)
     private static Player findLastPlacePlayer(List<Player> remove) {
-        Map<Player, Double> avgGameScores = calculateAverageScores(remove);
-        gameScoreHistory.add(avgGameScores);
-        // Find the minimum average score using a stream (no need for the variable to be mutable)
-        double minAverageScore = avgGameScores.values().stream()
-            .min(Double::compare)
-            .orElse(Double.MAX_VALUE); // Use Double.MAX_VALUE if there's no player
-    
-        // Check for ties in the minimum score
-        long numPlayersWithMinScore = avgGameScores.values().stream()
-            .filter(score -> score == minAverageScore)
-            .count();
-    
-        if (numPlayersWithMinScore > 1) {
-            System.out.println("동률");
-            return null; // No removal if there's a tie for the lowest score
+        double[] avgGameScores = calculateAverageScores(remove);
+        List<Player> tied = lowestPlayers(avgGameScores);
+        for (int attempt = 0; tied.size() > 1 && attempt < MAX_TIE_BREAKS; attempt++) {
+            if (!playTieBreak(tied, attempt)) {
+                break;
+            }
+            System.out.println("동률: " + tied.stream().map(Player::getName).toList()
+                + " → 관련 쌍 " + TIE_BREAK_GAMES + "게임 추가");
+            avgGameScores = calculateAverageScores(remove);
+            tied = lowestPlayers(avgGameScores);
         }
-    
-        // Find the player with the minimum average score
-        for (Map.Entry<Player, Double> entry : avgGameScores.entrySet()) {
-            if (entry.getValue() == minAverageScore) {
-                return entry.getKey();
+        if (tied.size() > 1) {
+            System.out.println("동률 유지: 로스터에서 가장 뒤의 플레이어 탈락");
+        }
+        gameScoreHistory.add(avgGameScores);
+        Player lastPlace = tied.get(tied.size() - 1);
+
+        // 최하위와 바로 위 플레이어의 점수 차에 대한 분산 감소 보고
+        Player runnerUp = null;
+        for (Player player : players) {
+            if (player != lastPlace && (runnerUp == null
+                || avgGameScores[player.getId()] < avgGameScores[runnerUp.getId()])) {
+                runnerUp = player;
             }
         }
+        String report = runnerUp == null ? null : variance.report(lastPlace, runnerUp);
+        if (report != null) {
+            System.out.println(report);
+        }
+        String roundReport = roundErrorReport(lastPlace);
+        if (roundReport != null) {
+            System.out.println(roundReport);
+        }
         
-        return null;
+        return lastPlace;
+    }
+
+    // 라운드별 평균 점수(그래프와 같은 상대당 단위)의 오차 보고: 표준오차가 가장 큰 라운드 (게임이 둘 미만이면 null)
+    // Game으로 치른 쌍만 반영 (분석 쌍은 기댓값이라 오차가 없고, 일괄 실행 쌍은 라운드별 분산을 모으지 않음)
+    private static String roundErrorReport(Player player) {
+        if (roundSeries.games() < 2) {
+            return null;
+        }
+        int widest = 1;
+        for (int round = 2; round <= ROUNDS_PER_GAME; round++) {
+            if (roundSeries.standardError(player, round) > roundSeries.standardError(player, widest)) {
+                widest = round;
+            }
+        }
+        return String.format("라운드별 점수: %s 표준오차 최대 %.3f (라운드 %d, 게임 %d개)", player.getName(),
+            roundSeries.standardError(player, widest) / players.size(), widest, roundSeries.games());
     }
 }
\ No newline at end of file
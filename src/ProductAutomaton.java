@@ -0,0 +1,225 @@
+import Strategy.*;
+import java.util.Arrays;
+
+// 두 유한 상태 기계(Machine)의 곱 오토마톤
+// - 상태 = (p1 상태, p2 상태), 인덱스 s1 * n2 + s2, 시작 상태 0
+// - 라운드마다 두 기계의 의도된 행동을 내고, 실제 실행된 행동(노이즈 적용 후)으로 함께 전이
+// - choose() 호출 없이 표 조회만으로 한 쌍의 경기를 진행하거나 총점을 바로 계산
+// - 확률적 기계가 섞이면 상태 분포(마르코프 연쇄)로 기대 점수만 계산
+// - 점수는 주어진 보수표(Payoff)로 매김
+class ProductAutomaton {
+    private static final double CONVERGED = 1e-15; // 상태 분포가 이 이하로 변하면 정상 분포로 보고 반복을 멈춤
+
+    private final int states;
+    private final boolean deterministic;
+    private final double[] cooperation1; // 상태별 p1 협력 확률
+    private final double[] cooperation2;
+    private final int[] intended; // intended[state] = (p1 협력 ? 1 : 0) | (p2 협력 ? 2 : 0) (결정적일 때)
+    private final int[] next;     // next[state * 4 + outcome], outcome도 같은 비트 배치
+    private final Payoff payoff;
+
+    ProductAutomaton(Machine m1, Machine m2, Payoff payoff) {
+        this.payoff = payoff;
+        int n2 = m2.states();
+        this.states = m1.states() * n2;
+        this.deterministic = m1.isDeterministic() && m2.isDeterministic();
+        this.cooperation1 = new double[states];
+        this.cooperation2 = new double[states];
+        this.intended = new int[states];
+        this.next = new int[states * 4];
+        for (int s1 = 0; s1 < m1.states(); s1++) {
+            for (int s2 = 0; s2 < n2; s2++) {
+                int state = s1 * n2 + s2;
+                cooperation1[state] = m1.cooperation(s1);
+                cooperation2[state] = m2.cooperation(s2);
+                intended[state] = (m1.cooperates(s1) ? 1 : 0) | (m2.cooperates(s2) ? 2 : 0);
+                for (int outcome = 0; outcome < 4; outcome++) {
+                    boolean move1 = (outcome & 1) != 0;
+                    boolean move2 = (outcome & 2) != 0;
+                    next[state * 4 + outcome] = m1.next(s1, move1, move2) * n2 + m2.next(s2, move2, move1);
+                }
+            }
+        }
+    }
+
+    int states() {
+        return states;
+    }
+
+    boolean isDeterministic() {
+        return deterministic;
+    }
+
+    int intended(int state) {
+        return intended[state];
+    }
+
+    int next(int state, int outcome) {
+        return next[state * 4 + outcome];
+    }
+
+    // 노이즈 없이 rounds 라운드를 진행한 총점 {p1, p2} (결정적일 때)
+    // 상태 수 안에 반드시 주기가 생기므로 (주기 전 구간 + 주기 합 × 반복 + 나머지)로 O(상태 수)에 계산
+    long[] totalPayoffs(int rounds) {
+        int[] visited = new int[states]; // 처음 방문한 라운드 + 1 (0 = 미방문)
+        long[] prefix1 = new long[states + 1]; // prefix[t] = 처음 t라운드의 총점
+        long[] prefix2 = new long[states + 1];
+        int state = 0;
+        int t = 0;
+        while (t < rounds && visited[state] == 0) {
+            visited[state] = t + 1;
+            int outcome = intended[state];
+            prefix1[t + 1] = prefix1[t] + payoff.points((outcome & 1) != 0, (outcome & 2) != 0);
+            prefix2[t + 1] = prefix2[t] + payoff.points((outcome & 2) != 0, (outcome & 1) != 0);
+            state = next(state, outcome);
+            t++;
+        }
+        if (t == rounds) {
+            return new long[] {prefix1[t], prefix2[t]};
+        }
+        int start = visited[state] - 1; // 주기가 시작되는 라운드
+        int period = t - start;
+        long repeats = (rounds - start) / period;
+        int rest = (rounds - start) % period;
+        long total1 = prefix1[start] + repeats * (prefix1[t] - prefix1[start]) + (prefix1[start + rest] - prefix1[start]);
+        long total2 = prefix2[start] + repeats * (prefix2[t] - prefix2[start]) + (prefix2[start + rest] - prefix2[start]);
+        return new long[] {total1, total2};
+    }
+
+    // 라운드마다 p1, p2의 행동이 각각 noise1, noise2 확률로 뒤집힐 때 rounds 라운드의 기대 총점 {p1, p2}
+    // 시작 분포 e0에 대해 e0 · (I + T + ... + T^(rounds-1)) · r 을 거듭제곱 배가(doubling)로 계산: O(n^3 log rounds)
+    double[] expectedPayoffs(int rounds, double noise1, double noise2) {
+        if (noise1 <= 0 && noise2 <= 0 && deterministic) {
+            long[] totals = totalPayoffs(rounds);
+            return new double[] {totals[0], totals[1]};
+        }
+        double[][] transition = new double[states][states];
+        double[] reward1 = new double[states];
+        double[] reward2 = new double[states];
+        buildChain(noise1, noise2, transition, reward1, reward2);
+
+        // power = T^k, sum = I + T + ... + T^(k-1) (k = 2의 거듭제곱)
+        // reached = e0 · T^m, visits = e0 · (I + ... + T^(m-1)) (m = 지금까지 처리한 라운드 수)
+        double[][] power = transition;
+        double[][] sum = identity(states);
+        double[] reached = new double[states];
+        double[] visits = new double[states];
+        reached[0] = 1.0;
+        for (int remaining = rounds; remaining > 0; remaining >>>= 1) {
+            if ((remaining & 1) != 0) {
+                double[] add = multiply(reached, sum);
+                for (int s = 0; s < states; s++) {
+                    visits[s] += add[s];
+                }
+                reached = multiply(reached, power);
+            }
+            if (remaining > 1) {
+                double[][] nextSum = multiply(sum, power);
+                for (int r = 0; r < states; r++) {
+                    for (int c = 0; c < states; c++) {
+                        nextSum[r][c] += sum[r][c];
+                    }
+                }
+                sum = nextSum;
+                power = multiply(power, power);
+            }
+        }
+
+        double total1 = 0, total2 = 0;
+        for (int s = 0; s < states; s++) {
+            total1 += visits[s] * reward1[s];
+            total2 += visits[s] * reward2[s];
+        }
+        return new double[] {total1, total2};
+    }
+
+    // 라운드별 기대 점수 {p1[], p2[]} (인덱스 0 = 1라운드), 상태 분포를 한 라운드씩 진행 (과도 분포)
+    // 분포가 수렴하면(정상 분포) 남은 라운드는 같은 값으로 채움
+    double[][] expectedRoundPayoffs(int rounds, double noise1, double noise2) {
+        double[][] transition = new double[states][states];
+        double[] reward1 = new double[states];
+        double[] reward2 = new double[states];
+        buildChain(noise1, noise2, transition, reward1, reward2);
+
+        double[] p1 = new double[rounds];
+        double[] p2 = new double[rounds];
+        double[] distribution = new double[states];
+        distribution[0] = 1.0;
+        for (int round = 0; round < rounds; round++) {
+            for (int s = 0; s < states; s++) {
+                p1[round] += distribution[s] * reward1[s];
+                p2[round] += distribution[s] * reward2[s];
+            }
+            double[] nextDistribution = multiply(distribution, transition);
+            double change = 0;
+            for (int s = 0; s < states; s++) {
+                change += Math.abs(nextDistribution[s] - distribution[s]);
+            }
+            distribution = nextDistribution;
+            if (change < CONVERGED) {
+                Arrays.fill(p1, round + 1, rounds, p1[round]);
+                Arrays.fill(p2, round + 1, rounds, p2[round]);
+                break;
+            }
+        }
+        return new double[][] {p1, p2};
+    }
+
+    // 실행 행동 기준 전이 행렬과 상태별 기대 점수
+    // 의도한 협력 확률 c에 노이즈 e를 적용하면 실제 협력 확률은 c(1 - e) + (1 - c)e (e는 플레이어별)
+    private void buildChain(double noise1, double noise2, double[][] transition, double[] reward1, double[] reward2) {
+        for (int state = 0; state < states; state++) {
+            double q1 = cooperation1[state] * (1 - noise1) + (1 - cooperation1[state]) * noise1;
+            double q2 = cooperation2[state] * (1 - noise2) + (1 - cooperation2[state]) * noise2;
+            for (int outcome = 0; outcome < 4; outcome++) {
+                boolean move1 = (outcome & 1) != 0;
+                boolean move2 = (outcome & 2) != 0;
+                double p = (move1 ? q1 : 1 - q1) * (move2 ? q2 : 1 - q2);
+                if (p == 0) {
+                    continue;
+                }
+                transition[state][next(state, outcome)] += p;
+                reward1[state] += p * payoff.points(move1, move2);
+                reward2[state] += p * payoff.points(move2, move1);
+            }
+        }
+    }
+
+    private static double[][] identity(int n) {
+        double[][] m = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            m[i][i] = 1.0;
+        }
+        return m;
+    }
+
+    private static double[] multiply(double[] v, double[][] m) {
+        double[] out = new double[m[0].length];
+        for (int r = 0; r < v.length; r++) {
+            if (v[r] == 0) {
+                continue;
+            }
+            for (int c = 0; c < out.length; c++) {
+                out[c] += v[r] * m[r][c];
+            }
+        }
+        return out;
+    }
+
+    private static double[][] multiply(double[][] a, double[][] b) {
+        int n = a.length;
+        double[][] out = new double[n][n];
+        for (int r = 0; r < n; r++) {
+            for (int k = 0; k < n; k++) {
+                double v = a[r][k];
+                if (v == 0) {
+                    continue;
+                }
+                for (int c = 0; c < n; c++) {
+                    out[r][c] += v * b[k][c];
+                }
+            }
+        }
+        return out;
+    }
+}
@@ -0,0 +1,78 @@
+import Strategy.*;
+import java.util.*;
+
+// 게임별 라운드 점수의 온라인 집계: 게임이 끝날 때마다 접어 넣고 게임 자체의 라운드 점수는 보관하지 않음
+// - 메모리는 (로스터 크기 × 라운드 수)로 게임 수와 무관
+// - (플레이어, 라운드)마다 점수 합과 Welford 방식의 평균/제곱 편차 합 (게임 간 분산)
+// - 라운드별 값(delta)과 누적 값(cumulative)은 평균에서 바로 계산 (누적은 앞에서부터의 부분합)
+class RoundSeries {
+    private final int roster;
+    private final int rounds;
+    // [(round - 1) * roster + id]
+    private final double[] sums;
+    private final double[] means;
+    private final double[] squares; // 평균과의 편차 제곱합 (Welford의 M2)
+    private int games = 0;
+
+    RoundSeries(int roster, int rounds) {
+        this.roster = roster;
+        this.rounds = rounds;
+        this.sums = new double[roster * rounds];
+        this.means = new double[roster * rounds];
+        this.squares = new double[roster * rounds];
+    }
+
+    // 끝난 게임 하나의 라운드별 점수를 더함 (한 스레드에서 게임 순서대로 호출하면 결과가 비트 단위로 재현됨)
+    void add(Game game) {
+        List<Player> gamePlayers = game.getPlayers();
+        games++;
+        for (int round = 1; round <= rounds; round++) {
+            int base = (round - 1) * roster;
+            for (int i = 0; i < gamePlayers.size(); i++) {
+                int index = base + gamePlayers.get(i).getId();
+                double score = game.getRoundScore(round, i);
+                sums[index] += score;
+                double delta = score - means[index];
+                means[index] += delta / games;
+                squares[index] += delta * (score - means[index]);
+            }
+        }
+    }
+
+    int games() {
+        return games;
+    }
+
+    // 해당 라운드에 플레이어가 얻은 게임당 평균 점수 (게임이 없으면 0)
+    double mean(Player player, int round) {
+        return games > 0 ? sums[(round - 1) * roster + player.getId()] / games : 0.0;
+    }
+
+    // 해당 라운드 점수의 게임 간 표본 분산 (게임이 둘 미만이면 0)
+    double variance(Player player, int round) {
+        return games > 1 ? squares[(round - 1) * roster + player.getId()] / (games - 1) : 0.0;
+    }
+
+    // 해당 라운드 평균 점수의 표준오차 (게임을 독립 추출로 봄: 대조 변량 짝이 있으면 실제보다 크게 나옴)
+    double standardError(Player player, int round) {
+        return games > 1 ? Math.sqrt(variance(player, round) / games) : 0.0;
+    }
+
+    // 라운드별 값: 결과[라운드] = mean + extra[라운드] (extra가 null이면 0), 인덱스 0은 비움
+    double[] delta(Player player, double[] extra) {
+        double[] values = new double[rounds + 1];
+        for (int round = 1; round <= rounds; round++) {
+            values[round] = mean(player, round) + (extra == null ? 0.0 : extra[round]);
+        }
+        return values;
+    }
+
+    // 누적 값: delta의 부분합
+    double[] cumulative(Player player, double[] extra) {
+        double[] values = delta(player, extra);
+        for (int round = 2; round <= rounds; round++) {
+            values[round] += values[round - 1];
+        }
+        return values;
+    }
+}
@@ -13,32 +13,35 @@ import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
 
 import javax.swing.*;
 import java.awt.*;
-import java.util.Map;
-import java.util.Optional;
 import java.util.TreeSet;
 import java.util.ArrayList;
 import java.util.List;
 import Strategy.*;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 public class ScoreGraph {
-    private final Map<Player, Map<Integer, Double>> averageRoundScores;
+    private final List<Player> players;
+    private final double[][] averageRoundScores; // averageRoundScores[플레이어 id][라운드]
     private final int totalRounds;
 
-    public ScoreGraph(Map<Player, Map<Integer, Double>> averageRoundScores, int totalRounds) {
+    public ScoreGraph(List<Player> players, double[][] averageRoundScores, int totalRounds) {
+        this.players = players;
         this.averageRoundScores = averageRoundScores;
         this.totalRounds = totalRounds;
     }
 
+    private double score(Player player, int round) {
+        double[] rounds = averageRoundScores[player.getId()];
+        return rounds == null ? 0.0 : rounds[round];
+    }
+
     public void displayGraph() {
         XYSeriesCollection dataset = new XYSeriesCollection();
 
-        for (Player player : averageRoundScores.keySet()) {
+        for (Player player : players) {
             XYSeries series = new XYSeries(player.getName());
 
             for (int round = 1; round <= totalRounds; round++) {
-                double avgScore = averageRoundScores.get(player).getOrDefault(round, 0.0);
+                double avgScore = score(player, round);
                 series.add(round, avgScore);  // Y축: 평균 점수 그대로 사용 (누적 X)
             }
             dataset.addSeries(series);
@@ -70,27 +73,27 @@ public class ScoreGraph {
         frame.setVisible(true);
     }
 
+    // 이름은 입력을 받을 때 한 번만 플레이어로 바꾸고, 이후 조회는 id로 함
     public void displayGraphPlayer(String playerName) {
-        XYSeriesCollection dataset = new XYSeriesCollection();
-
-        // 특정 플레이어 찾기
-        Optional<Player> targetPlayer = averageRoundScores.keySet().stream()
-                .filter(player -> player.getName().equals(playerName))
-                .findFirst();
+        for (Player player : players) {
+            if (player.getName().equals(playerName)) {
+                displayGraphPlayer(player);
+                return;
+            }
+        }
+        System.out.println("플레이어 " + playerName + "을(를) 찾을 수 없습니다.");
+    }
 
-        if (targetPlayer.isPresent()) {
-            Player player = targetPlayer.get();
-            XYSeries series = new XYSeries(player.getName());
+    public void displayGraphPlayer(Player player) {
+        XYSeriesCollection dataset = new XYSeriesCollection();
+        String playerName = player.getName();
+        XYSeries series = new XYSeries(playerName);
 
-            for (int round = 1; round <= totalRounds; round++) {
-                double avgScore = averageRoundScores.get(player).getOrDefault(round, 0.0);
-                series.add(round, avgScore);
-            }
-            dataset.addSeries(series);
-        } else {
-            System.out.println("플레이어 " + playerName + "을(를) 찾을 수 없습니다.");
-            return;
+        for (int round = 1; round <= totalRounds; round++) {
+            double avgScore = score(player, round);
+            series.add(round, avgScore);
         }
+        dataset.addSeries(series);
 
         JFreeChart chart = ChartFactory.createXYLineChart(
                 "Average Score per Round - " + playerName,
@@ -117,12 +120,14 @@ public class ScoreGraph {
     
     public void displayGraphWithBestFit(List<String> playerNames) {
         XYSeriesCollection dataset = new XYSeriesCollection();
-        Set<String> selectedPlayers = playerNames == null || playerNames.isEmpty()
-                ? averageRoundScores.keySet().stream().map(Player::getName).collect(Collectors.toSet())
-                : Set.copyOf(playerNames);
+        boolean all = playerNames == null || playerNames.isEmpty();
+        boolean[] selected = new boolean[averageRoundScores.length]; // 플레이어 id별 선택 여부
+        for (Player player : players) {
+            selected[player.getId()] = all || playerNames.contains(player.getName());
+        }
 
-        for (Player player : averageRoundScores.keySet()) {
-            if (!selectedPlayers.contains(player.getName())) {
+        for (Player player : players) {
+            if (!selected[player.getId()]) {
                 continue; // 플레이어 이름 목록에 없는 경우 건너뜀
             }
 
@@ -131,7 +136,7 @@ public class ScoreGraph {
 
             List<Double> scores = new ArrayList<>();
             for (int round = 1; round <= totalRounds; round++) {
-                double avgScore = averageRoundScores.get(player).getOrDefault(round, 0.0);
+                double avgScore = score(player, round);
                 scores.add(avgScore);
             }
 
@@ -0,0 +1,31 @@
+// 마스터 시드 하나에서 실행 전체의 난수 스트림 시드를 유도
+// - 스트림마다 (탈락 단계, 게임, 플레이어, 상대) 같은 좌표를 키로 시드를 섞어 만듦 → 만드는 순서, 스레드 수, 실행자 종류와 무관
+// - 같은 좌표는 언제나 같은 시드이므로 게임 하나를 따로 떼어 다시 실행할 수 있음 (Game(players, rounds, 게임 시드))
+// - 섞는 함수는 SplitMix64의 마무리 단계 (SplittableRandom과 같은 계열), 키마다 한 번씩 적용
+final class Seeds {
+    static final long GAME_STREAM = 0;     // 탈락 단계 안의 게임 (뒤에 게임 번호)
+    static final long NOISE_STREAM = 1;    // 상대 쌍의 실행 노이즈
+    static final long STRATEGY_STREAM = 2; // 전략이 상대별로 쓰는 난수 (PairHistory.random())
+    static final long BATCH_STREAM = 3;    // 일괄 실행(BatchEngine)의 노이즈
+    static final long TIE_STREAM = 4;      // 최하위 동률 해소 게임 (뒤에 회차, 게임 번호 / 일괄 실행은 회차까지)
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private Seeds() {
+    }
+
+    // seed 아래에서 keys 좌표에 해당하는 하위 시드
+    static long derive(long seed, long... keys) {
+        long z = seed;
+        for (long key : keys) {
+            z = mix(z + (key + 1) * GOLDEN_GAMMA);
+        }
+        return z;
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,114 @@
+import Strategy.*;
+import java.util.*;
+
+// 탈락 단계의 순차 정지 판정: 게임을 묶음 단위로 더 치르면서, 최하위가 나머지 모두보다 낮다고 판단되면 멈춤
+// - 표본 단위: 게임 unitSize개 (대조 변량이면 짝 두 개, 단위끼리는 독립), 단위별로 플레이어 점수 합을 모음
+// - 평균 점수 = 분석 쌍의 기대 점수(고정값) + 표본 쌍(Game, 일괄 실행) 점수의 단위 평균
+// - 최하위 b와 다른 플레이어 q마다 단위별 점수 차의 평균과 표준오차로 단측 신뢰구간을 만들고,
+//   모든 q에서 하한이 0보다 크면 정지 (같은 게임의 점수 차를 쓰므로 공통 난수의 분산 감소가 그대로 반영됨)
+// - 오류율 보정: 묶음마다 판정하고(최대 maxLooks번) 상대도 여럿이므로, 판정 하나의 유의수준 = errorRate / (maxLooks × 상대 수)
+//   (Bonferroni, 보수적이지만 몇 번 보든 전체 오류율이 errorRate를 넘지 않음)
+class SequentialStopping {
+    private final int roster;
+    private final int unitSize;
+    private final double errorRate;
+    private final int maxLooks;
+    private final double[] offsets;                      // [id] 분석 쌍에서 얻는 게임당 기대 점수
+    private final List<long[]> units = new ArrayList<>(); // 단위별 플레이어 점수 합 [id]
+
+    SequentialStopping(int roster, int unitSize, double errorRate, int maxLooks) {
+        this.roster = roster;
+        this.unitSize = unitSize;
+        this.errorRate = errorRate;
+        this.maxLooks = maxLooks;
+        this.offsets = new double[roster];
+    }
+
+    // 분석으로 계산한 게임당 기대 점수 (표본 변동 없음)
+    void addOffset(int id, double perGame) {
+        offsets[id] += perGame;
+    }
+
+    // game번 게임에서 id 플레이어가 표본 쌍으로 얻은 점수
+    void add(int game, int id, long points) {
+        int unit = game / unitSize;
+        while (units.size() <= unit) {
+            units.add(new long[roster]);
+        }
+        units.get(unit)[id] += points;
+    }
+
+    // 지금까지의 게임당 평균 점수 (완성된 단위 기준)
+    double mean(Player player) {
+        double sum = 0;
+        for (long[] unit : units) {
+            sum += unit[player.getId()];
+        }
+        return offsets[player.getId()] + (units.isEmpty() ? 0.0 : sum / (units.size() * (double) unitSize));
+    }
+
+    // 최하위가 다른 모든 플레이어와 구분되면 그 플레이어, 아니면 null (단위가 둘 미만이면 판정하지 않음)
+    Player separatedLast(List<Player> players) {
+        if (units.size() < 2 || players.size() < 2) {
+            return null;
+        }
+        Player last = null;
+        for (Player player : players) {
+            if (last == null || mean(player) < mean(last)) {
+                last = player;
+            }
+        }
+        double z = normalQuantile(1 - errorRate / (maxLooks * (double) (players.size() - 1)));
+        for (Player other : players) {
+            if (other == last) {
+                continue;
+            }
+            double gap = mean(other) - mean(last);
+            double error = Math.sqrt(differenceVariance(other.getId(), last.getId()) / units.size());
+            if (gap - z * error <= 0) {
+                return null;
+            }
+        }
+        return last;
+    }
+
+    // 단위별 (a - b) 게임당 점수 차의 표본 분산
+    private double differenceVariance(int a, int b) {
+        double sum = 0, squares = 0;
+        for (long[] unit : units) {
+            double difference = (unit[a] - unit[b]) / (double) unitSize;
+            sum += difference;
+            squares += difference * difference;
+        }
+        int m = units.size();
+        return Math.max(0.0, (squares - sum * sum / m) / (m - 1));
+    }
+
+    // 표준정규분포의 p 분위수 (Acklam의 유리 근사, 상대 오차 1.15e-9 이하)
+    static double normalQuantile(double p) {
+        if (p <= 0 || p >= 1) {
+            throw new IllegalArgumentException("p must be in (0, 1): " + p);
+        }
+        final double[] a = {-3.969683028665376e+01, 2.209460984245205e+02, -2.759285104469687e+02,
+            1.383577518672690e+02, -3.066479806614716e+01, 2.506628277459239e+00};
+        final double[] b = {-5.447609879822406e+01, 1.615858368580409e+02, -1.556989798598866e+02,
+            6.680131188771972e+01, -1.328068155288572e+01};
+        final double[] c = {-7.784894002430293e-03, -3.223964580411365e-01, -2.400758277161838e+00,
+            -2.549732539343734e+00, 4.374664141464968e+00, 2.938163982698783e+00};
+        final double[] d = {7.784695709041462e-03, 3.224671290700398e-01, 2.445134137142996e+00,
+            3.754408661907416e+00};
+        double low = 0.02425;
+        if (p < low) {
+            double q = Math.sqrt(-2 * Math.log(p));
+            return (((((c[0] * q + c[1]) * q + c[2]) * q + c[3]) * q + c[4]) * q + c[5])
+                / ((((d[0] * q + d[1]) * q + d[2]) * q + d[3]) * q + 1);
+        }
+        if (p > 1 - low) {
+            return -normalQuantile(1 - p);
+        }
+        double q = p - 0.5;
+        double r = q * q;
+        return (((((a[0] * r + a[1]) * r + a[2]) * r + a[3]) * r + a[4]) * r + a[5]) * q
+            / (((((b[0] * r + b[1]) * r + b[2]) * r + b[3]) * r + b[4]) * r + 1);
+    }
+}
@@ -1,7 +1,5 @@
 package Strategy;
 
-import java.util.List;
-
 /**
  * 전략 이름: AlternateDefect
  * 전략 개요: 배신(D)과 협력(C)을 번갈아 반복하는 고정 루틴 전략
@@ -30,8 +28,11 @@ import java.util.List;
 */
 
 public class AlternateDefect implements Strategy {
+    // 0: 배신 → 1: 협력 → 0: 배신 ...
+    private static final Machine MACHINE = Machine.onOpponent(new boolean[] {false, true}, new int[] {1, 0}, new int[] {1, 0});
+
     @Override
-    public boolean choose(Player self, Player opponent, List<Boolean> opponentHistory) {
+    public boolean choose(Player self, Player opponent, PairHistory opponentHistory) {
         // 첫 번째 라운드는 무조건 배신 (D)
         if (opponentHistory.isEmpty()) {
             return false;
@@ -39,6 +40,21 @@ public class AlternateDefect implements Strategy {
         return opponentHistory.size() % 2 != 0;
     }
     
+    @Override
+    public long stateFingerprint(Player opponent, PairHistory opponentHistory) {
+        return opponentHistory.size() % 2; // 라운드 홀짝
+    }
+
+    @Override
+    public Machine machine() {
+        return MACHINE;
+    }
+
+    @Override
+    public int historyDepth() {
+        return 0; // 기록 없이 라운드 수와 누적 통계만 사용
+    }
+
     @Override
     public Strategy cloneStrategy() {
         return new AlternateDefect();
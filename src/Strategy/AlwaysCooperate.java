@@ -1,7 +1,5 @@
 package Strategy;
 
-import java.util.List;
-
 /**
  * 전략 이름: AlwaysCooperate
  * 전략 개요: 어떤 상황에서도 무조건 협력(C)만 선택하는 절대 협력 전략
@@ -30,14 +28,32 @@ import java.util.List;
 */
 
 public class AlwaysCooperate implements Strategy {
+    // 협력 상태 하나
+    private static final Machine MACHINE = Machine.onOpponent(new boolean[] {true}, new int[] {0}, new int[] {0});
+
     @Override
-    public boolean choose(Player self, Player opponent, List<Boolean> opponentHistory) {
+    public boolean choose(Player self, Player opponent, PairHistory opponentHistory) {
         // 항상 협력 (C)을 선택함
         return true;
     }
     
+    @Override
+    public long stateFingerprint(Player opponent, PairHistory opponentHistory) {
+        return 0; // 내부 상태 없음
+    }
+
+    @Override
+    public Machine machine() {
+        return MACHINE;
+    }
+
+    @Override
+    public int historyDepth() {
+        return 0; // 기록 없이 라운드 수와 누적 통계만 사용
+    }
+
     @Override
     public Strategy cloneStrategy() {
-        return new AlwaysCooperate();
+        return this; // 내부 상태가 없으므로 복제하지 않고 모든 게임이 한 인스턴스를 공유 (flyweight)
     }
 }
\ No newline at end of file
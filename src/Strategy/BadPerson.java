@@ -1,7 +1,5 @@
 package Strategy;
 
-import java.util.List;
-import java.util.Random;
 /**
  * 전략 이름: BadPerson
  * 전략 개요: 각 라운드에서 75% 확률로 배신(D), 25% 확률로 협력(C)을 선택하는 확률 기반 전략
@@ -29,12 +27,23 @@ import java.util.Random;
 */
 
 public class BadPerson implements Strategy {
-    private final Random random = new Random();
+    // 항상 25% 확률로 협력
+    private static final Machine MACHINE = Machine.memoryOne(0.25, 0.25, 0.25, 0.25, 0.25);
 
     @Override
-    public boolean choose(Player self, Player opponent, List<Boolean> opponentHistory) {
+    public boolean choose(Player self, Player opponent, PairHistory opponentHistory) {
         // 75% 확률로 배신(false), 25% 확률로 협력(true)
-        return random.nextDouble() < 0.25;
+        return opponentHistory.random().nextDouble() < 0.25;
+    }
+
+    @Override
+    public Machine machine() {
+        return MACHINE; // 기대 점수 계산용 (확률적 기계)
+    }
+
+    @Override
+    public int historyDepth() {
+        return 0; // 기록 없이 라운드 수와 누적 통계만 사용
     }
 
     @Override
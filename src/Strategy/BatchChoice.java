@@ -0,0 +1,16 @@
+package Strategy;
+
+/**
+ * 라운드 단위 실행에서 한 플레이어가 이번 라운드의 모든 상대에 대한 행동을 한 번에 정하는 일괄 결정
+ *
+ * - 상대별 상태를 기본형 배열(상대 순번 k로 인덱스)로 들고, 상대 수만큼 도는 단순한 루프 하나로 결정
+ *   → 상대마다 choose()를 가상 호출하고 기록/상태 객체를 따라가는 대신 연속된 배열만 읽고 씀
+ * - 게임마다 새로 만들며(Strategy.newBatchChoice), 상대 순번 k는 게임 내내 같은 상대를 가리킴
+ * - choose()와 같은 행동을 내야 함 (상대 쌍 내부 정보만 쓰는 전략만 지원할 수 있음)
+ */
+public interface BatchChoice {
+    // round: 이번 라운드 (1부터)
+    // lastMyMoves[k], lastOpponentMoves[k]: 상대 k와의 직전 라운드에 실제로 실행된 행동 (노이즈 적용 후, 첫 라운드에는 의미 없음)
+    // decisions[k]에 상대 k에 대한 이번 라운드 행동을 채움 (true = 협력)
+    void chooseAll(int round, boolean[] lastMyMoves, boolean[] lastOpponentMoves, boolean[] decisions);
+}
@@ -1,7 +1,5 @@
 package Strategy;
 
-import java.util.List;
-
 /**
  * 전략 이름: BinaryThinking
  * 전략 개요: 상대의 협력 비율이 50%를 초과하면 무조건 협력(C), 50% 이하이면 무조건 배신(D)하는 기준 기반 전략
@@ -30,24 +28,25 @@ import java.util.List;
 
 public class BinaryThinking implements Strategy {
     @Override
-    public boolean choose(Player self, Player opponent, List<Boolean> opponentHistory) {
+    public boolean choose(Player self, Player opponent, PairHistory opponentHistory) {
         // 상대방의 행동 기록이 비어 있다면 (즉, 첫 라운드라면) 무조건 배신(D) 선택
         if (opponentHistory.isEmpty()) {
             return false;
         }
 
-        // 동기화된 블록에서 안전하게 접근
-        double cooperationRate;
-
-        long cooperationCount = opponentHistory.stream().filter(b -> b).count();
-        cooperationRate = (double) cooperationCount / opponentHistory.size();
-        
+        // 누적 통계에서 협력 비율 조회 (기록 전체를 다시 세지 않음)
+        double cooperationRate = opponentHistory.stats().opponentCooperationRate();
 
         // 협력 비율이 50% 이하라면 무조건 배신(D)
         // 협력 비율이 50%를 초과하면 무조건 협력(C)
         return cooperationRate > 0.5;
     }
     
+    @Override
+    public int historyDepth() {
+        return 0; // 기록 없이 라운드 수와 누적 통계만 사용
+    }
+
     @Override
     public Strategy cloneStrategy() {
         return new BinaryThinking();
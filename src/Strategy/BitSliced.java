@@ -0,0 +1,110 @@
+package Strategy;
+
+/**
+ * 64개의 독립된 게임을 long 하나의 비트(레인)로 묶어 한 번에 진행하는 전략 표현
+ *
+ * - 게임 g의 상태/행동 = 각 long의 g번째 비트 (1 = 협력)
+ * - 상태는 전략이 정한 개수의 비트 평면(long[])으로 두고, 비트 연산만으로 모든 레인을 함께 갱신
+ * - cooperate()/update()는 choose()와 같은 행동을 내야 함 (update는 노이즈 적용 후 실제 행동으로 호출)
+ * - 결정적 Machine은 상태마다 평면 하나(one-hot)로 자동 변환됨 (of)
+ */
+public interface BitSliced {
+    int LANES = Long.SIZE;
+
+    // rounds 라운드 동안 필요한 비트 평면 수
+    int planes(int rounds);
+
+    // 첫 라운드 전 상태 (state는 0으로 채워져 있음)
+    void init(long[] state);
+
+    // 이번 라운드에 협력할 레인 마스크
+    long cooperate(long[] state);
+
+    // 실제 실행된 행동으로 상태 갱신
+    void update(long[] state, long myMoves, long opponentMoves);
+
+    // 결정적 유한 상태 기계: 평면 s = 현재 상태가 s인 레인들
+    static BitSliced of(Machine machine) {
+        if (!machine.isDeterministic()) {
+            throw new IllegalArgumentException("Machine is not deterministic");
+        }
+        int states = machine.states();
+        return new BitSliced() {
+            @Override
+            public int planes(int rounds) {
+                return states;
+            }
+
+            @Override
+            public void init(long[] state) {
+                state[0] = -1L; // 모든 레인이 시작 상태
+            }
+
+            @Override
+            public long cooperate(long[] state) {
+                long cooperate = 0L;
+                for (int s = 0; s < states; s++) {
+                    if (machine.cooperates(s)) {
+                        cooperate |= state[s];
+                    }
+                }
+                return cooperate;
+            }
+
+            @Override
+            public void update(long[] state, long myMoves, long opponentMoves) {
+                long[] outcomes = {
+                    ~myMoves & ~opponentMoves, // (D, D)
+                    myMoves & ~opponentMoves,  // (C, D)
+                    ~myMoves & opponentMoves,  // (D, C)
+                    myMoves & opponentMoves    // (C, C)
+                };
+                long[] next = new long[states];
+                for (int s = 0; s < states; s++) {
+                    if (state[s] == 0L) {
+                        continue;
+                    }
+                    for (int outcome = 0; outcome < 4; outcome++) {
+                        next[machine.next(s, outcome)] |= state[s] & outcomes[outcome];
+                    }
+                }
+                System.arraycopy(next, 0, state, 0, states);
+            }
+        };
+    }
+
+    // 레인별 카운터 (평면 k = 각 레인 카운터의 k번째 비트)
+    // rounds 라운드 동안 라운드당 최대 2씩 늘어나는 카운터에 필요한 평면 수
+    static int counterPlanes(int rounds) {
+        return Long.SIZE - Long.numberOfLeadingZeros(Math.max(1L, 2L * rounds));
+    }
+
+    // planes[0, width)를 카운터로 보고 mask 레인의 카운터를 1 증가
+    static void increment(long[] planes, int width, long mask) {
+        long carry = mask;
+        for (int k = 0; k < width && carry != 0L; k++) {
+            long next = planes[k] & carry;
+            planes[k] ^= carry;
+            carry = next;
+        }
+    }
+
+    // mask 레인 중 카운터가 0이 아닌 레인만 1 감소 (0 아래로 내려가지 않음)
+    static void decrement(long[] planes, int width, long mask) {
+        long borrow = mask & nonZero(planes, width);
+        for (int k = 0; k < width && borrow != 0L; k++) {
+            long next = ~planes[k] & borrow;
+            planes[k] ^= borrow;
+            borrow = next;
+        }
+    }
+
+    // 카운터가 0이 아닌 레인
+    static long nonZero(long[] planes, int width) {
+        long any = 0L;
+        for (int k = 0; k < width; k++) {
+            any |= planes[k];
+        }
+        return any;
+    }
+}
@@ -1,8 +1,6 @@
 package Strategy;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 /**
  * 전략 이름: Cheater  
  * 전략 유형: 메타 전략, 비정상적 전지적 판단자  
@@ -36,16 +34,26 @@ import java.util.Map;
 */
 
 public class Cheater implements Strategy {
-    private final Map<Player, Integer> roundTracker = new HashMap<>(); // 상대별 라운드 카운트
-    private final Map<Player, Integer> betrayalTracker = new HashMap<>();
+    // 상대별 상태
+    private static final class State {
+        int rounds;    // 라운드 카운트
+        int betrayals; // 의도적으로 배신한 횟수
+    }
+
+    @Override
+    public Object newPairState() {
+        return new State();
+    }
+
     @Override
-    public boolean choose(Player self, Player opponent, List<Boolean> opponentHistory) {
-        roundTracker.put(opponent, roundTracker.getOrDefault(opponent, 0) + 1); // 라운드 카운트 증가
+    public boolean choose(Player self, Player opponent, PairHistory opponentHistory) {
+        State state = opponentHistory.state();
+        state.rounds++; // 라운드 카운트 증가
 
         return switch (opponent.getStrategy().getClass().getSimpleName()) {
-            case "ReverseGrimTrigger", "Predator", "ScammerTester", "StereoType" -> onlyCooperateFirstRound(opponent);
-            case "OmegaTitForTat", "SlowTitForTat" -> patternDCDC(opponent);
-            case "Tranquilizer" -> earlyDefect5ThenDCDC(opponent);
+            case "ReverseGrimTrigger", "Predator", "ScammerTester", "StereoType" -> onlyCooperateFirstRound(state);
+            case "OmegaTitForTat", "SlowTitForTat" -> patternDCDC(state);
+            case "Tranquilizer" -> earlyDefect5ThenDCDC(state);
             case "AlwaysDefect", "Flatterer", "ConditionalForgiver", 
                 "RobinHood", "CollectiveResponsibility", "AlternateDefect", 
                 "BadPerson", "Troller", "RandomStrategy", "Gambler", "DeceptiveAdaptation", 
@@ -56,17 +64,17 @@ public class Cheater implements Strategy {
                  "Grasshopper", "NoisyTitForTat", "GlassMind", "ShadowDefect",
                  "ProbabilisticWeightedTitForTat", "Predictor", "Shepherd", 
                  "DynamicTitForTat", "DiscountFactor" -> titForTat(opponentHistory);
-            case "OpponentTester" -> againstOpponentTester(opponent);
-            case "BinaryThinking" -> againstBinary(opponent, opponentHistory);
+            case "OpponentTester" -> againstOpponentTester(state);
+            case "BinaryThinking" -> againstBinary(state, opponentHistory);
             case "Mutation" -> defectTitForTat(self, opponentHistory);
-            case "ConditionalCommitment" -> againstConditionalCommitment(opponent);
-            case "MutualDestruction" -> againstMutualDestruction(opponent);
+            case "ConditionalCommitment" -> againstConditionalCommitment(state);
+            case "MutualDestruction" -> againstMutualDestruction(state);
             case "GuidingCooperator" -> againstGuidingCooperator(opponentHistory);
             case "EnhancedTitForTat" -> againstEnhancedTitForTat(opponentHistory);
             case "ForgivingTitForTat", "Pavlov" -> onlyCooperateFirstRoundDCDC(opponentHistory);
             case "Saint" -> againstSaint(opponentHistory);
             case "TitForTatLastDefect" -> titForTatLastTwoDefects(opponentHistory);
-            case "GreedyTitForTat", "Gradual", "Debt", "TwoTitsForTat", "HardTitForTat" -> grimTrigger(opponentHistory);
+            case "GreedyTitForTat", "Gradual", "Debt", "TwoTitsForTat", "HardTitForTat" -> grimTrigger(opponentHistory.stats());
             default -> { 
                 System.out.println(opponent.getStrategy().getClass().getSimpleName());
                 yield defect();
@@ -74,8 +82,8 @@ public class Cheater implements Strategy {
         };
     }
 
-    private boolean onlyCooperateFirstRound(Player opponent) {
-        int round = roundTracker.getOrDefault(opponent, 0);
+    private boolean onlyCooperateFirstRound(State state) {
+        int round = state.rounds;
         return round == 1; // 첫 라운드 협력, 이후 계속 배신
     }
 
@@ -88,29 +96,29 @@ public class Cheater implements Strategy {
         return round % 2 == 1;
     }
 
-    private boolean patternDCDC(Player opponent) {
-        int round = roundTracker.getOrDefault(opponent, 0);
+    private boolean patternDCDC(State state) {
+        int round = state.rounds;
         return round % 2 == 0;
     }
 
-    private boolean earlyDefect5ThenDCDC(Player opponent) {
-        int round = roundTracker.getOrDefault(opponent, 0);
+    private boolean earlyDefect5ThenDCDC(State state) {
+        int round = state.rounds;
         return round < 5 ? false : round % 2 == 0;
     }
 
-    private boolean grimTrigger(List<Boolean> opponentHistory) {
+    private boolean grimTrigger(HistoryStats stats) {
         // 첫 번째 라운드는 기본적으로 협력(C)
-        if (opponentHistory.isEmpty()) {
+        if (stats.rounds() == 0) {
             return true;
         }
 
         // 상대가 한 번이라도 배신(D)한 적이 있으면 이후로 계속 배신(D)
-        return !opponentHistory.contains(false);
+        return !stats.opponentEverDefected();
     }
 
-    private boolean againstBinary(Player opponent, List<Boolean> opponentHistory) {
+    private boolean againstBinary(State state, List<Boolean> opponentHistory) {
         int rounds = opponentHistory.size();
-        int betrayals = betrayalTracker.getOrDefault(opponent, 0);
+        int betrayals = state.betrayals;
         if (rounds < 5) {
             return true;
         }
@@ -120,7 +128,7 @@ public class Cheater implements Strategy {
             return true;
         }
         else {
-            betrayalTracker.put(opponent, betrayals + 1);
+            state.betrayals = betrayals + 1;
             return false;
         }
     }
@@ -129,8 +137,8 @@ public class Cheater implements Strategy {
         return false;
     }
 
-    private boolean againstOpponentTester(Player opponent) {
-        int round = roundTracker.getOrDefault(opponent, 0);
+    private boolean againstOpponentTester(State state) {
+        int round = state.rounds;
         return round == 1 || (round - 1) % 6 == 0; 
     }
 
@@ -166,14 +174,14 @@ public class Cheater implements Strategy {
         return opponentHistory.get(opponentHistory.size() - 1);
     }
 
-    private boolean againstConditionalCommitment(Player opponent) {
-        int round = roundTracker.getOrDefault(opponent, 0);
+    private boolean againstConditionalCommitment(State state) {
+        int round = state.rounds;
         return round <= 3;
     }
 
-    private boolean againstMutualDestruction(Player opponent) {
-        int totalRounds = roundTracker.getOrDefault(opponent, 0);
-        int betrayals = betrayalTracker.getOrDefault(opponent, 0);
+    private boolean againstMutualDestruction(State state) {
+        int totalRounds = state.rounds;
+        int betrayals = state.betrayals;
     
         // 배신 비율을 계산하여 이번에 배신하면 40%를 초과하는지 확인
         double newBetrayalRate = (double) (betrayals + 1) / (totalRounds + 1);
@@ -183,7 +191,7 @@ public class Cheater implements Strategy {
             return true; // 협력
         }
         else {
-            betrayalTracker.put(opponent, betrayals + 1);
+            state.betrayals = betrayals + 1;
             return false; // 배신
         }
     }
@@ -218,6 +226,16 @@ public class Cheater implements Strategy {
         return rounds >= 9;
     }
     
+    @Override
+    public int historyDepth() {
+        return 1; // 직전 라운드만 사용
+    }
+
+    @Override
+    public boolean isPairLocal() {
+        return false; // 자신의 전체 대전 횟수(getBattleCount) 사용
+    }
+
     @Override
     public Strategy cloneStrategy() {
         return new Cheater();
@@ -1,9 +1,5 @@
 package Strategy;
 
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-
 /**
  * 전략 이름: CollectiveResponsibility
  * 전략 개요: 특정 상대의 행동이 아닌, 네트워크 전체의 협력 비율을 기반으로 행동을 결정하는 전략
@@ -32,27 +28,42 @@ import java.util.Map;
 */
 
 public class CollectiveResponsibility implements Strategy {
-    private final Map<Player, Integer> cooperationCount = new HashMap<>(); // 플레이어별 협력 횟수
-    private final Map<Player, Integer> totalRounds = new HashMap<>(); // 플레이어별 총 라운드 수
+    // 상대별 상태
+    private static final class State {
+        int cooperation; // 상대의 협력 횟수
+        int rounds;      // 상대와의 총 라운드 수
+    }
+
+    private int totalCooperation = 0; // 네트워크 전체 협력 횟수
+    private int totalInteractions = 0; // 네트워크 전체 라운드 수
+    // 병렬 실행 시 라운드 시작 시점의 네트워크 집계 (상대 처리 순서와 무관하게 같은 값을 읽음)
+    private boolean epoch = false;
+    private int epochCooperation;
+    private int epochInteractions;
+
+    @Override
+    public Object newPairState() {
+        return new State();
+    }
 
     @Override
-    public boolean choose(Player self, Player opponent, List<Boolean> opponentHistory) {
+    public boolean choose(Player self, Player opponent, PairHistory opponentHistory) {
+        State state = opponentHistory.state();
         // 상대 플레이어의 전체 플레이 횟수 증가
-        totalRounds.put(opponent, totalRounds.getOrDefault(opponent, 0) + 1);
+        state.rounds++;
+        totalInteractions++;
+        int cooperated = 0;
 
         // 상대가 협력한 경우 협력 횟수 증가
         if (!opponentHistory.isEmpty() && opponentHistory.get(opponentHistory.size() - 1)) {
-            cooperationCount.put(opponent, cooperationCount.getOrDefault(opponent, 0) + 1);
+            state.cooperation++;
+            totalCooperation++;
+            cooperated = 1;
         }
 
-        // 네트워크 전체 협력/배신 비율 계산
-        int totalCooperation = 0;
-        int totalInteractions = 0;
-
-        for (Player p : totalRounds.keySet()) {
-            totalInteractions += totalRounds.get(p);
-            totalCooperation += cooperationCount.getOrDefault(p, 0);
-        }
+        // 네트워크 전체 협력/배신 비율 계산 (병렬 실행이면 라운드 시작 스냅샷 + 이번 상대의 갱신분)
+        int totalCooperation = epoch ? epochCooperation + cooperated : this.totalCooperation;
+        int totalInteractions = epoch ? epochInteractions + 1 : this.totalInteractions;
 
         // 데이터가 없으면 기본적으로 협력 (C)
         if (totalInteractions == 0) {
@@ -66,6 +77,35 @@ public class CollectiveResponsibility implements Strategy {
         return cooperationRate >= 0.5;
     }
 
+    @Override
+    public void beginEpoch() {
+        epochCooperation = totalCooperation;
+        epochInteractions = totalInteractions;
+        epoch = true;
+    }
+
+    @Override
+    public void endEpoch() {
+        epoch = false;
+    }
+
+    @Override
+    public void reset() {
+        totalCooperation = 0;
+        totalInteractions = 0;
+        epoch = false;
+    }
+
+    @Override
+    public int historyDepth() {
+        return 1; // 직전 라운드만 사용
+    }
+
+    @Override
+    public boolean isPairLocal() {
+        return false; // 모든 상대에 걸친 협력률 사용
+    }
+
     @Override
     public Strategy cloneStrategy() {
         return new CollectiveResponsibility();
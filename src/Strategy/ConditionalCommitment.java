@@ -1,10 +1,5 @@
 package Strategy;
 
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.Random;
-
 /**
  * 전략 이름: ConditionalCommitment
  * 전략 개요: 상대의 연속된 행동을 기준으로 무조건 협력 또는 무조건 배신 모드로 전환하는 전략
@@ -35,39 +30,54 @@ import java.util.Random;
 */
 
 public class ConditionalCommitment implements Strategy {
-    private final Random random = new Random();
 
-    // 각 상대별 무조건 협력(true) / 무조건 배신(false) 모드 저장 (null이면 아직 결정되지 않음)
-    private final Map<Player, Boolean> lockedStrategy = new HashMap<>();
+    // 각 상대별 무조건 협력(true) / 무조건 배신(false) 모드 저장 (locked가 false면 아직 결정되지 않음)
+    private static final class State {
+        boolean locked;
+        boolean cooperate;
+    }
+
+    @Override
+    public Object newPairState() {
+        return new State();
+    }
 
     @Override
-    public boolean choose(Player self, Player opponent, List<Boolean> opponentHistory) {
+    public boolean choose(Player self, Player opponent, PairHistory opponentHistory) {
+        State state = opponentHistory.state();
         // 만약 특정 상대에 대해 이미 협력/배신 모드가 결정되었다면 그대로 유지
-        if (lockedStrategy.containsKey(opponent)) {
-            return lockedStrategy.get(opponent);
+        if (state.locked) {
+            return state.cooperate;
         }
 
         int rounds = opponentHistory.size();
 
         // 초반에는 랜덤한 선택
         if (rounds < 3) {
-            return random.nextBoolean();
+            return opponentHistory.random().nextBoolean();
         }
 
         // 최근 3턴이 모두 협력(C)이라면 → 무한 협력 모드
         if (opponentHistory.get(rounds - 3) && opponentHistory.get(rounds - 2) && opponentHistory.get(rounds - 1)) {
-            lockedStrategy.put(opponent, true);
+            state.locked = true;
+            state.cooperate = true;
             return true;
         }
 
         // 최근 3턴이 모두 배신(D)이라면 → 무한 배신 모드
         if (!opponentHistory.get(rounds - 3) && !opponentHistory.get(rounds - 2) && !opponentHistory.get(rounds - 1)) {
-            lockedStrategy.put(opponent, false);
+            state.locked = true;
+            state.cooperate = false;
             return false;
         }
 
         // 3연속 협력/배신이 아닐 경우 랜덤 선택 유지
-        return random.nextBoolean();
+        return opponentHistory.random().nextBoolean();
+    }
+
+    @Override
+    public int historyDepth() {
+        return 3; // 최근 3라운드 사용
     }
 
     @Override
@@ -1,9 +1,5 @@
 package Strategy;
 
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-
 /**
  * 전략 이름: ConditionalForgiver
  * 전략 개요: 기본적으로 배신하지만, 서로가 동시에 배신했을 경우에만 단 한 번 협력(C)을 시도하는 전략
@@ -35,33 +31,46 @@ import java.util.Map;
 
 public class ConditionalForgiver implements Strategy {
     // 상대별로 이전 라운드에서 내가 했던 행동을 저장 (true = 협력, false = 배신)
-    private final Map<Player, Boolean> lastMyAction = new HashMap<>();
+    private static final class State {
+        boolean lastMyAction;
+    }
+
+    @Override
+    public Object newPairState() {
+        return new State();
+    }
 
     @Override
-    public boolean choose(Player self, Player opponent, List<Boolean> opponentHistory) {
+    public boolean choose(Player self, Player opponent, PairHistory opponentHistory) {
+        State state = opponentHistory.state();
         int rounds = opponentHistory.size();
 
         // 첫 번째 라운드는 기본적으로 배신(D)
         if (rounds == 0) {
-            lastMyAction.put(opponent, false); // 초기값: 배신(D)
+            state.lastMyAction = false; // 초기값: 배신(D)
             return false;
         }
 
         // 상대의 마지막 행동을 가져옴
         boolean lastOpponentMove = opponentHistory.get(rounds - 1);
-        boolean lastMyMove = lastMyAction.getOrDefault(opponent, false); // 기본값: 배신(D)
+        boolean lastMyMove = state.lastMyAction;
 
         // 직전 라운드에서 나와 상대가 둘 다 배신(D, D)했다면 → 한 번 협력(C)
         if (!lastOpponentMove && !lastMyMove) {
-            lastMyAction.put(opponent, true); // 이번 라운드에서는 협력(C)
+            state.lastMyAction = true; // 이번 라운드에서는 협력(C)
             return true;
         }
 
         // 기본적으로 배신(D)
-        lastMyAction.put(opponent, false); // 이번 라운드도 배신(D)
+        state.lastMyAction = false; // 이번 라운드도 배신(D)
         return false;
     }
 
+    @Override
+    public int historyDepth() {
+        return 1; // 직전 라운드만 사용
+    }
+
     @Override
     public Strategy cloneStrategy() {
         return new ConditionalForgiver();
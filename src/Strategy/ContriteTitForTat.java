@@ -1,10 +1,5 @@
 package Strategy;
 
-import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
-
 /**
  * 전략 이름: ContriteTitForTat
  * 전략 개요: 기본적으로는 Tit-for-Tat 전략을 따르되, 실수로 배신했을 경우 상대가 여전히 협력하면 사과(C)를 실행하는 전략
@@ -35,58 +30,61 @@ import java.util.concurrent.CopyOnWriteArrayList;
 */
 
 public class ContriteTitForTat implements Strategy {
-    private final Map<Player, Boolean> contriteMode = new ConcurrentHashMap<>(); // Contrite 모드 활성화 여부
-    private final Map<Player, List<Boolean>> opponentHistories = new ConcurrentHashMap<>(); // 상대 기록 저장
-    private final Map<Player, List<Boolean>> selfHistories = new ConcurrentHashMap<>(); // 본인의 기록 저장 (Noise 검출용)
+    // 상대별 상태
+    private static final class State {
+        boolean contrite; // Contrite 모드 활성화 여부
+    }
 
     @Override
-    public boolean choose(Player self, Player opponent, List<Boolean> opponentHistory) {
-        // 상대 기록 관리
-        opponentHistories.putIfAbsent(opponent, new CopyOnWriteArrayList<>(opponentHistory));
-        List<Boolean> history = opponentHistories.get(opponent);
-
-        // 본인의 기록도 관리 (Noise 감지용)
-        selfHistories.putIfAbsent(opponent, new CopyOnWriteArrayList<>());
-        List<Boolean> selfHistory = selfHistories.get(opponent);
+    public Object newPairState() {
+        return new State();
+    }
 
+    @Override
+    public boolean choose(Player self, Player opponent, PairHistory opponentHistory) {
+        State state = opponentHistory.state();
         // 첫 번째 라운드는 무조건 협력(C)
-        if (history.isEmpty()) {
-            selfHistory.add(true); // 자신의 협력 기록 추가
+        if (opponentHistory.isEmpty()) {
             return true;
         }
 
-        int historySize = history.size();
-        boolean lastOpponentMove = history.get(historySize - 1); // 상대의 마지막 행동
+        int historySize = opponentHistory.size();
+        boolean lastOpponentMove = opponentHistory.lastOpponentMove(); // 상대의 마지막 행동
 
         // Contrite 모드 활성화 여부 가져오기 (초기값: false)
-        contriteMode.putIfAbsent(opponent, false);
-        boolean isContrite = contriteMode.get(opponent);
+        boolean isContrite = state.contrite;
 
         // Contrite 모드일 경우, 협력(C)하여 사과
         if (isContrite) {
-            contriteMode.put(opponent, false); // 사과 후 Contrite 모드 해제
-            selfHistory.add(true);
+            state.contrite = false; // 사과 후 Contrite 모드 해제
             return true; // 무조건 협력 (사과)
         }
 
-        // Noise 검출: 본인의 마지막 행동과 기록된 행동이 다르면 Noise 발생한 것으로 간주
-        if (selfHistory.size() >= historySize) {
-            boolean lastRecordedMove = selfHistory.get(historySize - 1); // 본인이 기억하는 마지막 행동
-            if (lastRecordedMove != lastOpponentMove && lastRecordedMove == false && lastOpponentMove == true) {
-                // 내가 Noise 때문에 배신(D)했지만, 상대는 계속 협력(C)한 경우 → Contrite 모드 활성화
-                contriteMode.put(opponent, true);
-                selfHistory.add(true);
-                return true; // 사과 (협력)
-            }
+        // Noise 검출: 대전 기록에 남은 내 마지막 행동과 상대의 마지막 행동 비교
+        boolean lastRecordedMove = opponentHistory.myMove(historySize - 1); // 기록된 내 마지막 행동
+        if (lastRecordedMove != lastOpponentMove && lastRecordedMove == false && lastOpponentMove == true) {
+            // 내가 Noise 때문에 배신(D)했지만, 상대는 계속 협력(C)한 경우 → Contrite 모드 활성화
+            state.contrite = true;
+            return true; // 사과 (협력)
         }
 
         // 기본적으로 Tit For Tat 동작 유지
-        selfHistory.add(lastOpponentMove);
         return lastOpponentMove; // 상대의 마지막 행동을 따라감 (TFT)
     }
 
+    @Override
+    public long stateFingerprint(Player opponent, PairHistory opponentHistory) {
+        State state = opponentHistory.state();
+        return state.contrite ? 1 : 0;
+    }
+
+    @Override
+    public int historyDepth() {
+        return 1; // 직전 라운드만 사용
+    }
+
     @Override
     public Strategy cloneStrategy() {
         return new ContriteTitForTat();
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,6 @@
 package Strategy;
-import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
+
+import java.util.Arrays;
 
 /**
  * 전략 이름: Debt
@@ -32,11 +32,21 @@ import java.util.concurrent.ConcurrentHashMap;
 */
 
 public class Debt implements Strategy {
-    private final ConcurrentHashMap<Player, Integer> debt = new ConcurrentHashMap<>(); // 상대가 쌓은 배신 빚
+    private static final BitSliced SLICED = new Sliced();
+
+    // 상대별 상태
+    private static final class State {
+        int debt; // 상대가 쌓은 배신 빚
+    }
+
+    @Override
+    public Object newPairState() {
+        return new State();
+    }
 
     @Override
-    public boolean choose(Player self, Player opponent, List<Boolean> opponentHistory) {
-        debt.putIfAbsent(opponent, 0);
+    public boolean choose(Player self, Player opponent, PairHistory opponentHistory) {
+        State state = opponentHistory.state();
 
         if (opponentHistory.isEmpty()) {
             return true; // 첫 턴은 협력
@@ -44,18 +54,78 @@ public class Debt implements Strategy {
 
         // 상대가 이전 턴에 배신했으면 빚을 추가
         if (!opponentHistory.get(opponentHistory.size() - 1)) {
-            debt.put(opponent, debt.get(opponent) + 1);
+            state.debt++;
         } else {
             // 상대가 협력하면 빚을 하나 갚아줌
-            debt.put(opponent, Math.max(0, debt.get(opponent) - 1));
+            state.debt = Math.max(0, state.debt - 1);
         }
 
         // 빚이 남아 있으면 배신으로 갚음
-        return debt.get(opponent) == 0;
+        return state.debt == 0;
+    }
+
+    @Override
+    public BatchChoice newBatchChoice(int opponents) {
+        return new Batch(opponents);
+    }
+
+    @Override
+    public BitSliced bitSliced() {
+        return SLICED; // 빚 카운터를 비트 평면으로
+    }
+
+    @Override
+    public int historyDepth() {
+        return 1; // 직전 라운드만 사용
     }
 
     @Override
     public Strategy cloneStrategy() {
         return new Debt();
     }
+
+    // 라운드 단위 일괄 결정: debts[k] = 상대 k가 쌓은 빚 (choose()의 State.debt와 같은 갱신)
+    private static final class Batch implements BatchChoice {
+        private final int[] debts;
+
+        Batch(int opponents) {
+            this.debts = new int[opponents];
+        }
+
+        @Override
+        public void chooseAll(int round, boolean[] lastMyMoves, boolean[] lastOpponentMoves, boolean[] decisions) {
+            if (round == 1) {
+                Arrays.fill(decisions, 0, debts.length, true); // 첫 턴은 협력
+                return;
+            }
+            for (int k = 0; k < debts.length; k++) {
+                int debt = lastOpponentMoves[k] ? Math.max(0, debts[k] - 1) : debts[k] + 1;
+                debts[k] = debt;
+                decisions[k] = debt == 0;
+            }
+        }
+    }
+
+    // 64게임 일괄 실행용: 평면들 = 레인별 빚 카운터
+    private static final class Sliced implements BitSliced {
+        @Override
+        public int planes(int rounds) {
+            return BitSliced.counterPlanes(rounds);
+        }
+
+        @Override
+        public void init(long[] state) {
+        }
+
+        @Override
+        public long cooperate(long[] state) {
+            return ~BitSliced.nonZero(state, state.length); // 빚이 없는 레인만 협력
+        }
+
+        @Override
+        public void update(long[] state, long myMoves, long opponentMoves) {
+            BitSliced.increment(state, state.length, ~opponentMoves);
+            BitSliced.decrement(state, state.length, opponentMoves);
+        }
+    }
 }
\ No newline at end of file
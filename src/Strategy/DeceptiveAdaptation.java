@@ -1,11 +1,5 @@
 package Strategy;
 
-import java.util.List;
-import java.util.Map;
-import java.util.Random;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
-
 /**
  * 전략 이름: DeceptiveAdaptation
  * 전략 개요: 초반엔 협력하며 상대의 성향을 파악하고, 이후 상대의 협력 비율에 따라 확률적으로 배신을 섞는 적응형 기만 전략
@@ -37,45 +31,50 @@ import java.util.concurrent.CopyOnWriteArrayList;
 */
 
 public class DeceptiveAdaptation implements Strategy {
-    private final Map<Player, Integer> totalRounds = new ConcurrentHashMap<>();
-    private final Map<Player, List<Boolean>> opponentHistories = new ConcurrentHashMap<>(); // 안전한 기록 저장
-    private final Random random = new Random();
+
+    // 상대별 상태
+    private static final class State {
+        int totalRounds;
+    }
 
     @Override
-    public boolean choose(Player self, Player opponent, List<Boolean> opponentHistory) {
-        // 안전한 리스트 관리
-        opponentHistories.putIfAbsent(opponent, new CopyOnWriteArrayList<>(opponentHistory));
-        List<Boolean> history = opponentHistories.get(opponent);
+    public Object newPairState() {
+        return new State();
+    }
 
-        // 총 라운드 수 증가 (원자적 업데이트)
-        totalRounds.compute(opponent, (k, v) -> (v == null) ? 1 : v + 1);
-        int rounds = totalRounds.get(opponent);
+    @Override
+    public boolean choose(Player self, Player opponent, PairHistory opponentHistory) {
+        State state = opponentHistory.state();
+        // 총 라운드 수 증가
+        int rounds = ++state.totalRounds;
 
         // 초반 5라운드는 무조건 협력하여 상대의 성향을 탐색
         if (rounds <= 5) {
             return true;
         }
 
-        // 상대의 협력 비율 계산 (동기화된 블록)
-        int coopCount;
-        synchronized (history) {
-            coopCount = (int) history.stream().filter(b -> b).count();
-        }
+        // 상대의 협력 비율 계산 (누적 통계)
+        int coopCount = opponentHistory.stats().opponentCooperations();
 
         double coopRate = (double) coopCount / rounds;
 
         // 제어된 랜덤성 적용
         if (coopRate > 0.8) {
-            return random.nextDouble() > 0.2; // 상대가 협력 위주라면 80% 협력, 20% 배신
+            return opponentHistory.random().nextDouble() > 0.2; // 상대가 협력 위주라면 80% 협력, 20% 배신
         }
         else if (coopRate > 0.5) {
-            return random.nextDouble() > 0.4; // 상대가 보복형 전략이면 60% 협력, 40% 배신
+            return opponentHistory.random().nextDouble() > 0.4; // 상대가 보복형 전략이면 60% 협력, 40% 배신
         }
         else {
-            return random.nextDouble() > 0.6; // 상대가 배신 위주라면 40% 협력, 60% 배신
+            return opponentHistory.random().nextDouble() > 0.6; // 상대가 배신 위주라면 40% 협력, 60% 배신
         }
     }
     
+    @Override
+    public int historyDepth() {
+        return 0; // 기록 없이 라운드 수와 누적 통계만 사용
+    }
+
     @Override
     public Strategy cloneStrategy() {
         return new DeceptiveAdaptation();
@@ -1,8 +1,6 @@
 package Strategy;
 
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.Arrays;
 
 /**
  * 전략 이름: DiscountFactor
@@ -35,47 +33,66 @@ import java.util.Map;
 
 
 public class DiscountFactor implements Strategy {
-    // 각 상대별 Discount Factor 저장
-    private final Map<Player, Double> discountFactors = new HashMap<>();
-
-    // 각 상대별 협력 횟수 및 총 라운드 횟수 저장
-    private final Map<Player, Integer> cooperationCount = new HashMap<>();
-    private final Map<Player, Integer> totalRounds = new HashMap<>();
-
     // Discount Factor의 감쇠율 (이전 협력 행동의 중요도 조절)
     private final double discountRate = 0.9; // 0.9로 설정하여 최근 행동이 더 큰 영향을 미침
 
     @Override
-    public boolean choose(Player self, Player opponent, List<Boolean> opponentHistory) {
-        int rounds = opponentHistory.size();
-
+    public boolean choose(Player self, Player opponent, PairHistory opponentHistory) {
         // 첫 번째 라운드는 무조건 협력
-        if (rounds == 0) {
-            discountFactors.put(opponent, 1.0); // 초반에는 최대 협력 가정
-            cooperationCount.put(opponent, 0);
-            totalRounds.put(opponent, 0);
+        if (opponentHistory.isEmpty()) {
             return true;
         }
 
-        // 상대의 총 플레이 횟수 증가
-        totalRounds.put(opponent, totalRounds.getOrDefault(opponent, 0) + 1);
+        // Discount Factor (할인율 적용): 대전 기록 통계가 라운드마다 갱신하는 지수 감쇠 평균
+        // d = discountRate * d + (1 - discountRate) * (협력 ? 1 : 0), 초반에는 최대 협력(1.0) 가정
+        double discountFactor = opponentHistory.stats().decayedOpponentCooperation();
 
-        // 상대가 협력했으면 협력 횟수 증가
-        if (opponentHistory.get(rounds - 1)) {
-            cooperationCount.put(opponent, cooperationCount.getOrDefault(opponent, 0) + 1);
-        }
+        // 75% 이상이면 협력, 아니면 배신
+        return discountFactor >= 0.75;
+    }
 
-        // Discount Factor 계산 (할인율 적용)
-        double prevDiscountFactor = discountFactors.getOrDefault(opponent, 1.0);
-        double newDiscountFactor = (discountRate * prevDiscountFactor) + (1 - discountRate) * (opponentHistory.get(rounds - 1) ? 1.0 : 0.0);
-        discountFactors.put(opponent, newDiscountFactor);
+    @Override
+    public BatchChoice newBatchChoice(int opponents) {
+        return new Batch(opponents, discountRate);
+    }
 
-        // 75% 이상이면 협력, 아니면 배신
-        return newDiscountFactor >= 0.75;
+    @Override
+    public double statsDecay() {
+        return discountRate;
+    }
+
+    @Override
+    public int historyDepth() {
+        return 0; // 기록 없이 라운드 수와 누적 통계만 사용
     }
 
     @Override
     public Strategy cloneStrategy() {
         return new DiscountFactor();
     }
-}
\ No newline at end of file
+
+    // 라운드 단위 일괄 결정: factors[k] = 상대 k의 Discount Factor (HistoryStats의 지수 감쇠 평균과 같은 식, 같은 연산 순서)
+    private static final class Batch implements BatchChoice {
+        private final double[] factors;
+        private final double decay;
+
+        Batch(int opponents, double decay) {
+            this.factors = new double[opponents];
+            this.decay = decay;
+            Arrays.fill(factors, 1.0); // 초반에는 최대 협력 가정
+        }
+
+        @Override
+        public void chooseAll(int round, boolean[] lastMyMoves, boolean[] lastOpponentMoves, boolean[] decisions) {
+            if (round == 1) {
+                Arrays.fill(decisions, 0, factors.length, true); // 첫 번째 라운드는 무조건 협력
+                return;
+            }
+            for (int k = 0; k < factors.length; k++) {
+                double factor = decay * factors[k] + (1 - decay) * (lastOpponentMoves[k] ? 1.0 : 0.0);
+                factors[k] = factor;
+                decisions[k] = factor >= 0.75;
+            }
+        }
+    }
+}
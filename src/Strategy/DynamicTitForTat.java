@@ -1,7 +1,5 @@
 package Strategy;
 
-import java.util.List;
-import java.util.Random;
 /**
  * 전략 이름: DynamicTitForTat
  * 전략 개요: 상대의 최근 배신 여부와 전체 협력 비율을 함께 고려하여 보복 여부를 확률적으로 결정하는 유연한 보복형 전략
@@ -33,10 +31,9 @@ import java.util.Random;
 */
 
 public class DynamicTitForTat implements Strategy {
-    private final Random random = new Random(); // 확률적 선택을 위한 랜덤 객체
 
     @Override
-    public boolean choose(Player self, Player opponent, List<Boolean> opponentHistory) {
+    public boolean choose(Player self, Player opponent, PairHistory opponentHistory) {
         // 첫 번째 라운드는 기본적으로 협력(C)
         if (opponentHistory.isEmpty()) {
             return true;
@@ -48,17 +45,21 @@ public class DynamicTitForTat implements Strategy {
         // 상대가 최근 2번 중 1번이라도 배신했다면
         if (historySize > 1 && (!lastMove || !opponentHistory.get(historySize - 2))) {
             // 상대의 협력 비율을 계산
-            long cooperations = opponentHistory.stream().filter(b -> b).count();
-            double cooperationRate = (double) cooperations / historySize;
+            double cooperationRate = opponentHistory.stats().opponentCooperationRate();
 
             // 협력 비율 확률로 협력 선택
-            return random.nextDouble() < cooperationRate;
+            return opponentHistory.random().nextDouble() < cooperationRate;
         }
 
         // 기본적으로 협력 유지
         return true;
     }
 
+    @Override
+    public int historyDepth() {
+        return 2; // 최근 2라운드 사용
+    }
+
     @Override
     public Strategy cloneStrategy() {
         return new DynamicTitForTat();
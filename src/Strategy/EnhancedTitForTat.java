@@ -1,10 +1,5 @@
 package Strategy;
 
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.Random;
-
 /**
  * 전략 이름: EnhancedTitForTat
  * 전략 개요: 상대의 마지막 행동을 따르되, 배신 시에도 점진적으로 협력 수준을 회복하는 유연한 대응형 전략
@@ -36,21 +31,28 @@ import java.util.Random;
 */
 
 public class EnhancedTitForTat implements Strategy {
-    private final Random random = new Random();
 
     // 상대별로 협력 비율 저장 (0.0 ~ 1.0)
-    private final Map<Player, Double> cooperationRate = new HashMap<>();
+    private static final class State {
+        double cooperationRate = 1.0;
+    }
 
     // 협력 비율 증가 속도 (Proportion Increment)
     private final double incrementRate = 0.2; // 협력 회복 속도 (20%)
 
     @Override
-    public boolean choose(Player self, Player opponent, List<Boolean> opponentHistory) {
+    public Object newPairState() {
+        return new State();
+    }
+
+    @Override
+    public boolean choose(Player self, Player opponent, PairHistory opponentHistory) {
+        State state = opponentHistory.state();
         int rounds = opponentHistory.size();
 
         // 첫 번째 라운드는 무조건 협력 (C)
         if (rounds == 0) {
-            cooperationRate.put(opponent, 1.0); // 초기 협력 비율 = 1.0 (완전 협력)
+            state.cooperationRate = 1.0; // 초기 협력 비율 = 1.0 (완전 협력)
             return true;
         }
 
@@ -58,20 +60,25 @@ public class EnhancedTitForTat implements Strategy {
         boolean lastOpponentMove = opponentHistory.get(rounds - 1);
 
         // 현재 협력 비율 가져오기 (기본값 = 1.0)
-        double currentCooperation = cooperationRate.getOrDefault(opponent, 1.0);
+        double currentCooperation = state.cooperationRate;
 
         // 상대가 협력했으면, 협력 유지
         if (lastOpponentMove) {
-            cooperationRate.put(opponent, 1.0); // 다시 완전 협력으로 회복
+            state.cooperationRate = 1.0; // 다시 완전 협력으로 회복
             return true;
         }
 
         // 상대가 배신한 경우 → 즉시 배신하지 않고, 점진적으로 협력 수준 조절
         double newCooperationRate = Math.max(0.0, currentCooperation - incrementRate);
-        cooperationRate.put(opponent, newCooperationRate);
+        state.cooperationRate = newCooperationRate;
 
         // 현재 협력 비율에 따라 행동 결정 (확률적으로 협력 수행)
-        return random.nextDouble() < newCooperationRate;
+        return opponentHistory.random().nextDouble() < newCooperationRate;
+    }
+
+    @Override
+    public int historyDepth() {
+        return 1; // 직전 라운드만 사용
     }
 
     @Override
@@ -1,7 +1,5 @@
 package Strategy;
 
-import java.util.List;
-
 /**
  * 전략 이름: ForgivingTitForTat
  * 전략 개요: 상대가 한 번 배신하는 것은 용서하지만, 두 번 연속 배신하면 보복하는 관대한 변형 Tit-for-Tat 전략
@@ -32,9 +30,11 @@ import java.util.List;
 */  
 
 public class ForgivingTitForTat implements Strategy {
+    // 0: 협력, 1: 협력(상대 배신 1회), 2: 배신(상대 연속 배신)
+    private static final Machine MACHINE = Machine.onOpponent(new boolean[] {true, true, false}, new int[] {0, 0, 0}, new int[] {1, 2, 2});
 
     @Override
-    public boolean choose(Player self, Player opponent, List<Boolean> opponentHistory) {
+    public boolean choose(Player self, Player opponent, PairHistory opponentHistory) {
         // 첫 번째 라운드는 기본적으로 협력(C)
         if (opponentHistory.isEmpty()) {
             return true;
@@ -52,6 +52,21 @@ public class ForgivingTitForTat implements Strategy {
         return !(!opponentHistory.get(size - 1) && !opponentHistory.get(size - 2));
     }
     
+    @Override
+    public long stateFingerprint(Player opponent, PairHistory opponentHistory) {
+        return 0; // 최근 2라운드만으로 결정
+    }
+
+    @Override
+    public Machine machine() {
+        return MACHINE;
+    }
+
+    @Override
+    public int historyDepth() {
+        return 2; // 최근 2라운드 사용
+    }
+
     @Override
     public Strategy cloneStrategy() {
         return new ForgivingTitForTat();
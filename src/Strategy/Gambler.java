@@ -1,5 +1,4 @@
 package Strategy;
-import java.util.List;
 
 /**
  * 전략 이름: Gambler
@@ -34,13 +33,28 @@ public class Gambler implements Strategy {
     private int roundsPlayed = 0;
 
     @Override
-    public boolean choose(Player self, Player opponent, List<Boolean> opponentHistory) {
+    public boolean choose(Player self, Player opponent, PairHistory opponentHistory) {
         roundsPlayed++;
         int averageScore = (roundsPlayed > 0) ? (self.getScore() / roundsPlayed) : 0;
 
         return averageScore > 2.25; // (5, 3, 1, 0)의 기댓값이 2.25
     }
 
+    @Override
+    public void reset() {
+        roundsPlayed = 0;
+    }
+
+    @Override
+    public int historyDepth() {
+        return 0; // 기록 없이 라운드 수와 누적 통계만 사용
+    }
+
+    @Override
+    public boolean isPairLocal() {
+        return false; // 자신의 누적 점수와 전체 라운드 수 사용
+    }
+
     @Override
     public Gambler cloneStrategy() {
         return new Gambler();
@@ -1,8 +1,5 @@
 package Strategy;
 
-import java.util.List;
-import java.util.Random;
-
 /**
  * 전략 이름: GoodPerson
  * 전략 개요: 75% 확률로 협력하고 25% 확률로 배신하는 확률 기반 전략
@@ -30,12 +27,23 @@ import java.util.Random;
 */ 
 
 public class GoodPerson implements Strategy {
-    private final Random random = new Random();
+    // 항상 75% 확률로 협력
+    private static final Machine MACHINE = Machine.memoryOne(0.75, 0.75, 0.75, 0.75, 0.75);
 
     @Override
-    public boolean choose(Player self, Player opponent, List<Boolean> opponentHistory) {
+    public boolean choose(Player self, Player opponent, PairHistory opponentHistory) {
         // 75% 확률로 협력(true), 25% 확률로 배신(false)
-        return random.nextDouble() < 0.75;
+        return opponentHistory.random().nextDouble() < 0.75;
+    }
+
+    @Override
+    public Machine machine() {
+        return MACHINE; // 기대 점수 계산용 (확률적 기계)
+    }
+
+    @Override
+    public int historyDepth() {
+        return 0; // 기록 없이 라운드 수와 누적 통계만 사용
     }
 
     @Override
@@ -1,9 +1,5 @@
 package Strategy;
 
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-
 /**
  * 전략 이름: Gradual
  * 전략 개요: 상대의 배신 시점에 따라 보복 강도를 달리하는 점진적 응징 전략
@@ -35,11 +31,21 @@ import java.util.Map;
 */
 
 public class Gradual implements Strategy {
-    private final Map<Player, Integer> pendingDefections = new HashMap<>(); // 각 상대별 보복 횟수 기록
     private int round = 0; // 현재 라운드
 
+    // 상대별 상태
+    private static final class State {
+        int pendingDefections; // 보복 횟수 기록
+    }
+
+    @Override
+    public Object newPairState() {
+        return new State();
+    }
+
     @Override
-    public boolean choose(Player self, Player opponent, List<Boolean> opponentHistory) {
+    public boolean choose(Player self, Player opponent, PairHistory opponentHistory) {
+        State state = opponentHistory.state();
         round++; // 매 호출 시 라운드 증가
 
         // 상대방의 기록이 없으면 (첫 라운드라면) 무조건 협력(C)
@@ -49,12 +55,12 @@ public class Gradual implements Strategy {
 
         // 상대의 마지막 행동이 배신(D)이라면, 해당 라운드 수만큼 보복 예약
         if (!opponentHistory.get(opponentHistory.size() - 1)) {
-            pendingDefections.put(opponent, pendingDefections.getOrDefault(opponent, 0) + round);
+            state.pendingDefections += round;
         }
 
         // 예약된 보복이 남아 있다면 배신(D) 실행
-        if (pendingDefections.getOrDefault(opponent, 0) > 0) {
-            pendingDefections.put(opponent, pendingDefections.get(opponent) - 1);
+        if (state.pendingDefections > 0) {
+            state.pendingDefections--;
             return false; // 배신
         }
 
@@ -62,6 +68,21 @@ public class Gradual implements Strategy {
         return true;
     }
 
+    @Override
+    public void reset() {
+        round = 0;
+    }
+
+    @Override
+    public int historyDepth() {
+        return 1; // 직전 라운드만 사용
+    }
+
+    @Override
+    public boolean isPairLocal() {
+        return false; // 모든 상대에 걸쳐 공유하는 라운드 카운터로 보복 강도 결정 (상대별로 나누면 보복 횟수가 달라지므로 유지)
+    }
+
     @Override
     public Strategy cloneStrategy() {
         return new Gradual();
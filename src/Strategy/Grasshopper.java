@@ -1,10 +1,5 @@
 package Strategy;
 
-import java.util.List;
-import java.util.Map;
-import java.util.Random;
-import java.util.concurrent.ConcurrentHashMap;
-
 /**
  * 전략 이름: Grasshopper
  * 전략 개요: 직전 라운드 점수에 따라 즉흥적으로 협력 또는 배신을 선택하는 반응형 전략
@@ -36,21 +31,31 @@ import java.util.concurrent.ConcurrentHashMap;
 */
 
 public class Grasshopper implements Strategy {
-    private final Map<Player, Integer> lastRoundScores = new ConcurrentHashMap<>();
-    private final Random random = new Random();
+
+    // 상대별 상태
+    private static final class State {
+        boolean scored;    // 점수를 받은 적이 있는지
+        int lastRoundScore;
+    }
 
     @Override
-    public boolean choose(Player self, Player opponent, List<Boolean> opponentHistory) {
-        if (!lastRoundScores.containsKey(opponent)) {
-            return random.nextBoolean(); // 첫 라운드는 랜덤
+    public Object newPairState() {
+        return new State();
+    }
+
+    @Override
+    public boolean choose(Player self, Player opponent, PairHistory opponentHistory) {
+        State state = opponentHistory.state();
+        if (!state.scored) {
+            return opponentHistory.random().nextBoolean(); // 첫 라운드는 랜덤
         }
 
-        int lastScore = lastRoundScores.get(opponent);
+        int lastScore = state.lastRoundScore;
 
         switch (lastScore) {
             case 6 -> {
                 // (C, C) → 3 + 3
-                return random.nextBoolean(); // 랜덤하게 협력 or 배신
+                return opponentHistory.random().nextBoolean(); // 랜덤하게 협력 or 배신
             }
             case 5 -> {
                 // (C, D) or (D, C)
@@ -67,9 +72,16 @@ public class Grasshopper implements Strategy {
         return true; // 기본적으로 협력 (이론상 도달할 수 없는 경우지만 대비)
     }
 
-    // 상대 플레이어별 점수를 저장 (게임이 끝날 때 호출해야 함)
-    public void updateScore(Player opponent, int score) {
-        lastRoundScores.put(opponent, score);
+    // 상대 플레이어별 점수를 저장 (게임이 끝날 때 그 상대와의 대전 기록으로 호출해야 함)
+    public void updateScore(PairHistory opponentHistory, int score) {
+        State state = opponentHistory.state();
+        state.scored = true;
+        state.lastRoundScore = score;
+    }
+
+    @Override
+    public int historyDepth() {
+        return 0; // 기록 없이 라운드 수와 누적 통계만 사용
     }
 
     @Override
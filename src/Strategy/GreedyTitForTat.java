@@ -1,8 +1,5 @@
 package Strategy;
 
-import java.util.List;
-import java.util.Random;
-
 /**
  * 전략 이름: GreedyTitForTat
  * 전략 개요: 기본 Tit-for-Tat을 따르되, 협력 시 10% 확률로 배신을 시도하는 탐욕적 변형 전략
@@ -33,10 +30,11 @@ import java.util.Random;
 */ 
 
 public class GreedyTitForTat implements Strategy {
-    private final Random random = new Random(); // 배신할 확률 계산을 위한 랜덤 객체
+    // 첫 라운드 협력, 상대가 협력했으면 90% 확률로 협력, 배신했으면 배신
+    private static final Machine MACHINE = Machine.memoryOne(1.0, 0.9, 0.0, 0.9, 0.0);
 
     @Override
-    public boolean choose(Player self, Player opponent, List<Boolean> opponentHistory) {
+    public boolean choose(Player self, Player opponent, PairHistory opponentHistory) {
         // 첫 번째 라운드는 기본적으로 협력(C)
         if (opponentHistory.isEmpty()) {
             return true;
@@ -46,7 +44,7 @@ public class GreedyTitForTat implements Strategy {
         boolean shouldCooperate = opponentHistory.get(opponentHistory.size() - 1);
 
         // 협력을 하려는 상황이라면 10% 확률로 배신(D)
-        if (shouldCooperate && random.nextDouble() < 0.1) {
+        if (shouldCooperate && opponentHistory.random().nextDouble() < 0.1) {
             return false;
         }
 
@@ -54,6 +52,16 @@ public class GreedyTitForTat implements Strategy {
         return shouldCooperate;
     }
     
+    @Override
+    public Machine machine() {
+        return MACHINE; // 기대 점수 계산용 (확률적 기계)
+    }
+
+    @Override
+    public int historyDepth() {
+        return 1; // 직전 라운드만 사용
+    }
+
     @Override
     public Strategy cloneStrategy() {
         return new GreedyTitForTat();
@@ -1,7 +1,5 @@
 package Strategy;
 
-import java.util.List;
-
 /**
  * 전략 이름: GrimTrigger
  * 전략 개요: 상대가 단 한 번이라도 배신하면 이후 무조건 배신만 하는 극단적 보복 전략
@@ -32,18 +30,35 @@ import java.util.List;
 */
 
 public class GrimTrigger implements Strategy {
+    // 0: 협력, 1: 배신 (흡수 상태)
+    private static final Machine MACHINE = Machine.onOpponent(new boolean[] {true, false}, new int[] {0, 1}, new int[] {1, 1});
 
     @Override
-    public boolean choose(Player self, Player opponent, List<Boolean> opponentHistory) {
+    public boolean choose(Player self, Player opponent, PairHistory opponentHistory) {
         // 첫 번째 라운드는 기본적으로 협력(C)
         if (opponentHistory.isEmpty()) {
             return true;
         }
 
         // 상대가 한 번이라도 배신(D)한 적이 있으면 이후로 계속 배신(D)
-        return !opponentHistory.contains(false);
+        return !opponentHistory.stats().opponentEverDefected();
     }
     
+    @Override
+    public long stateFingerprint(Player opponent, PairHistory opponentHistory) {
+        return opponentHistory.stats().opponentEverDefected() ? 1 : 0;
+    }
+
+    @Override
+    public Machine machine() {
+        return MACHINE;
+    }
+
+    @Override
+    public int historyDepth() {
+        return 0; // 기록 없이 라운드 수와 누적 통계만 사용
+    }
+
     @Override
     public Strategy cloneStrategy() {
         return new GrimTrigger();
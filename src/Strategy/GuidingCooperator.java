@@ -1,9 +1,5 @@
 package Strategy;
 
-import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-
 /**
  * 전략 이름: GuidingCooperator
  * 전략 개요: 상대를 협력적으로 유도하기 위해 인내하고 점진적으로 반응하는 교육형 전략
@@ -34,20 +30,21 @@ import java.util.concurrent.ConcurrentHashMap;
 */
 
 public class GuidingCooperator implements Strategy {
-    private final Map<Player, Integer> opponentDefectionStreak = new ConcurrentHashMap<>(); // 연속 배신 횟수 기록
-    private final Map<Player, Integer> totalRounds = new ConcurrentHashMap<>(); // 상대별 총 경기 횟수
+    // 상대별 상태
+    private static final class State {
+        int defectionStreak; // 연속 배신 횟수 기록
+        int totalRounds;     // 총 경기 횟수
+    }
 
     @Override
-    public boolean choose(Player self, Player opponent, List<Boolean> opponentHistory) {
-        totalRounds.computeIfAbsent(opponent, k -> 0);
-        opponentDefectionStreak.computeIfAbsent(opponent, k -> 0);
-
-        // 동기화하여 안전한 값 증가
-        synchronized (totalRounds) {
-            totalRounds.put(opponent, totalRounds.get(opponent) + 1);
-        }
+    public Object newPairState() {
+        return new State();
+    }
 
-        int rounds = totalRounds.get(opponent);
+    @Override
+    public boolean choose(Player self, Player opponent, PairHistory opponentHistory) {
+        State state = opponentHistory.state();
+        int rounds = ++state.totalRounds;
 
         // 첫 5라운드는 무조건 협력 (상대를 협력 모드로 유도)
         if (rounds <= 5) {
@@ -57,17 +54,14 @@ public class GuidingCooperator implements Strategy {
         // 안전한 상대 배신 여부 확인
         boolean lastMoveWasDefection = !opponentHistory.isEmpty() && !opponentHistory.get(opponentHistory.size() - 1);
 
-        // 동기화하여 안전한 배신 연속 기록
-        synchronized (opponentDefectionStreak) {
-            int defectionStreak = opponentDefectionStreak.getOrDefault(opponent, 0);
-            if (lastMoveWasDefection) {
-                opponentDefectionStreak.put(opponent, defectionStreak + 1);
-            } else {
-                opponentDefectionStreak.put(opponent, 0); // 협력하면 다시 초기화
-            }
+        // 배신 연속 기록
+        if (lastMoveWasDefection) {
+            state.defectionStreak++;
+        } else {
+            state.defectionStreak = 0; // 협력하면 다시 초기화
         }
 
-        int defectionStreak = opponentDefectionStreak.get(opponent);
+        int defectionStreak = state.defectionStreak;
 
         // 유도 전략 로직
         return switch (defectionStreak) {
@@ -81,6 +75,11 @@ public class GuidingCooperator implements Strategy {
         // 이후에는 교대로 보복하여 상대를 협력으로 유도
     }
     
+    @Override
+    public int historyDepth() {
+        return 1; // 직전 라운드만 사용
+    }
+
     @Override
     public Strategy cloneStrategy() {
         return new GuidingCooperator();
@@ -1,10 +1,5 @@
 package Strategy;
 
-import java.util.List;
-import java.util.Map;
-import java.util.Random;
-import java.util.concurrent.ConcurrentHashMap;
-
 /**
  * 전략 이름: HandOfGod
  * 전략 개요: 상대를 충분히 신뢰하게 만든 뒤, 점진적으로 배신을 섞어 착취하는 위선적 전략
@@ -39,23 +34,26 @@ import java.util.concurrent.ConcurrentHashMap;
 */
 
 public class HandOfGod implements Strategy {
-    private final Map<Player, Integer> opponentCooperationCount = new ConcurrentHashMap<>(); // 협력 횟수 기록
-    private final Map<Player, Integer> totalRounds = new ConcurrentHashMap<>(); // 총 경기 수 기록
-    private final Map<Player, Boolean> exploitMode = new ConcurrentHashMap<>(); // 착취 모드 여부
-    private final Map<Player, Integer> consecutiveHighCooperation = new ConcurrentHashMap<>(); // 연속 협력 횟수 기록
-    private final Random random = new Random(); // 랜덤한 행동을 위한 변수
+
+    // 상대별 상태
+    private static final class State {
+        int opponentCooperationCount;   // 협력 횟수 기록
+        int totalRounds;                // 총 경기 수 기록
+        boolean exploitMode;            // 착취 모드 여부
+        int consecutiveHighCooperation; // 연속 협력 횟수 기록
+    }
 
     @Override
-    public boolean choose(Player self, Player opponent, List<Boolean> opponentHistory) {
-        // 값 초기화
-        totalRounds.putIfAbsent(opponent, 0);
-        opponentCooperationCount.putIfAbsent(opponent, 0);
-        exploitMode.putIfAbsent(opponent, false);
-        consecutiveHighCooperation.putIfAbsent(opponent, 0);
+    public Object newPairState() {
+        return new State();
+    }
+
+    @Override
+    public boolean choose(Player self, Player opponent, PairHistory opponentHistory) {
+        State state = opponentHistory.state();
 
         // 라운드 수 증가
-        totalRounds.put(opponent, totalRounds.get(opponent) + 1);
-        int rounds = totalRounds.get(opponent);
+        int rounds = ++state.totalRounds;
 
         // 첫 10라운드는 무조건 협력(C)
         if (rounds <= 10) {
@@ -64,23 +62,23 @@ public class HandOfGod implements Strategy {
 
         // 상대의 협력 횟수를 먼저 업데이트
         if (!opponentHistory.isEmpty() && opponentHistory.get(opponentHistory.size() - 1)) {
-            opponentCooperationCount.put(opponent, opponentCooperationCount.get(opponent) + 1);
+            state.opponentCooperationCount++;
         }
 
-        int cooperationCount = opponentCooperationCount.get(opponent);
+        int cooperationCount = state.opponentCooperationCount;
         double cooperationRate = (double) cooperationCount / rounds;
 
         // 착취 모드 진입 조건
         if (cooperationRate >= 0.8) {
-            consecutiveHighCooperation.put(opponent, consecutiveHighCooperation.get(opponent) + 1);
-            if (consecutiveHighCooperation.get(opponent) >= 5) {
-                exploitMode.put(opponent, true);
+            state.consecutiveHighCooperation++;
+            if (state.consecutiveHighCooperation >= 5) {
+                state.exploitMode = true;
             }
         } else {
-            consecutiveHighCooperation.put(opponent, 0);
+            state.consecutiveHighCooperation = 0;
         }
 
-        boolean isExploiting = exploitMode.get(opponent);
+        boolean isExploiting = state.exploitMode;
 
         // 착취 모드 적용
         if (isExploiting) {
@@ -89,18 +87,23 @@ public class HandOfGod implements Strategy {
 
         // 보복형 전략 대응 (60% 이상 협력)
         if (cooperationRate > 0.6) {
-            return random.nextDouble() > 0.3; // 30% 확률로 배신
+            return opponentHistory.random().nextDouble() > 0.3; // 30% 확률로 배신
         }
 
         // 배신자가 협력할 가능성도 테스트
         if (cooperationRate < 0.3) {
-            return random.nextDouble() < 0.2; // 20% 확률로 협력 (상대가 협력할 가능성 테스트)
+            return opponentHistory.random().nextDouble() < 0.2; // 20% 확률로 협력 (상대가 협력할 가능성 테스트)
         }
 
         // 애매한 상대(협력-배신 혼합형) 대응
         return !opponentHistory.get(opponentHistory.size() - 1); // 기본적으로 상대 행동을 따라감
     }
 
+    @Override
+    public int historyDepth() {
+        return 1; // 직전 라운드만 사용
+    }
+
     @Override
     public Strategy cloneStrategy() {
         return new HandOfGod();
@@ -1,6 +1,5 @@
 package Strategy;
 
-import java.util.List;
 // (보복형) 신뢰를 쉽게 주지 않는 강경한 복수자, 기억에 의존하는 응징자  
 //  
 // Hard Tit-for-Tat 전략은 일반적인 Tit-for-Tat보다 더 강한 보복 성향을 가지며,  
@@ -35,11 +34,13 @@ import java.util.List;
 // 상대가 실수했을 때도 관계를 복구하기 어렵게 만드는 단점이 있다.  
 
 public class HardTitForTat implements Strategy {
+    // 0: 협력(최근 3라운드 모두 협력), 1~3: 배신 (상대 배신 후 1, 2, 3라운드째)
+    private static final Machine MACHINE = Machine.onOpponent(new boolean[] {true, false, false, false}, new int[] {0, 2, 3, 0}, new int[] {1, 1, 1, 1});
 
     private static final int MEMORY_DEPTH = 3; // 최근 3라운드 기억
 
     @Override
-    public boolean choose(Player self, Player opponent, List<Boolean> opponentHistory) {
+    public boolean choose(Player self, Player opponent, PairHistory opponentHistory) {
         // 첫 번째 라운드에서는 무조건 협력 (C)
         if (opponentHistory.isEmpty()) {
             return true;
@@ -59,6 +60,21 @@ public class HardTitForTat implements Strategy {
         return true;
     }
 
+    @Override
+    public long stateFingerprint(Player opponent, PairHistory opponentHistory) {
+        return 0; // 최근 3라운드만으로 결정
+    }
+
+    @Override
+    public Machine machine() {
+        return MACHINE;
+    }
+
+    @Override
+    public int historyDepth() {
+        return MEMORY_DEPTH; // 최근 3라운드만 사용
+    }
+
     @Override
     public Strategy cloneStrategy() {
         return new HardTitForTat();
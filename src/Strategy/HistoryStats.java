@@ -0,0 +1,231 @@
+package Strategy;
+
+/**
+ * 대전 기록 통계 인덱스 (PairHistory가 라운드마다 갱신)
+ *
+ * - 전체 기록을 다시 훑지 않고 O(1)로 답하는 누적 값들
+ * - 협력/배신 횟수, 현재 연속 횟수, 첫 배신/첫 협력 라운드
+ * - 최근 window 라운드 안의 협력 횟수 (슬라이딩 윈도우)
+ * - 상대 협력의 지수 감쇠 평균 (최근 행동일수록 큰 가중치, 초기값 1.0 = 협력 가정)
+ */
+public class HistoryStats {
+    public static final int DEFAULT_WINDOW = 5;
+    public static final double DEFAULT_DECAY = 0.9;
+
+    private final int window;
+    private final double decay;
+
+    private int rounds = 0;
+    private int opponentCooperations = 0;
+    private int myCooperations = 0;
+    private boolean lastOpponentMove;
+    private boolean lastMyMove;
+    private int opponentStreak = 0; // 상대가 마지막 행동을 연속한 횟수
+    private int myStreak = 0;
+    private int firstOpponentDefection = -1;
+    private int firstOpponentCooperation = -1;
+    private int windowOpponentCooperations = 0;
+    private int windowMyCooperations = 0;
+    private double decayedOpponentCooperation = 1.0;
+
+    public HistoryStats(int window, double decay) {
+        this.window = window;
+        this.decay = decay;
+    }
+
+    // 기록을 비우고 다시 쓸 때 처음 상태로 (PairHistory.reset)
+    void reset() {
+        rounds = 0;
+        opponentCooperations = 0;
+        myCooperations = 0;
+        lastOpponentMove = false;
+        lastMyMove = false;
+        opponentStreak = 0;
+        myStreak = 0;
+        firstOpponentDefection = -1;
+        firstOpponentCooperation = -1;
+        windowOpponentCooperations = 0;
+        windowMyCooperations = 0;
+        decayedOpponentCooperation = 1.0;
+    }
+
+    // history에 이번 라운드가 이미 기록된 상태에서 호출됨 (윈도우에서 빠지는 라운드 조회용)
+    void update(PairHistory history, boolean myMove, boolean opponentMove) {
+        int round = rounds;
+        opponentStreak = round > 0 && lastOpponentMove == opponentMove ? opponentStreak + 1 : 1;
+        myStreak = round > 0 && lastMyMove == myMove ? myStreak + 1 : 1;
+        lastOpponentMove = opponentMove;
+        lastMyMove = myMove;
+
+        if (opponentMove) {
+            opponentCooperations++;
+            windowOpponentCooperations++;
+            if (firstOpponentCooperation < 0) firstOpponentCooperation = round;
+        } else if (firstOpponentDefection < 0) {
+            firstOpponentDefection = round;
+        }
+        if (myMove) {
+            myCooperations++;
+            windowMyCooperations++;
+        }
+
+        // 윈도우 밖으로 밀려난 라운드 제거
+        if (round >= window) {
+            if (history.opponentMove(round - window)) windowOpponentCooperations--;
+            if (history.myMove(round - window)) windowMyCooperations--;
+        }
+
+        decayedOpponentCooperation = decay * decayedOpponentCooperation + (1 - decay) * (opponentMove ? 1.0 : 0.0);
+        rounds++;
+    }
+
+    // 한 주기(myMoves[k], opponentMoves[k])를 repeats번 되풀이한 라운드만큼 한 번에 진행 (PairHistory.recordRepeated)
+    // - 횟수, 연속 횟수, 첫 배신/첫 협력 라운드는 주기 하나를 훑어 계산 (라운드마다 update한 것과 같은 값)
+    // - 윈도우는 history에 보관된 마지막 window 라운드로 다시 셈 (그 라운드들이 이미 기록된 상태에서 호출됨)
+    // - 감쇠 평균은 주기 하나의 변환 d → a * d + b를 repeats번 합성 (제곱을 거듭해 O(log repeats), 부동소수점 오차만큼 다를 수 있음)
+    void advance(PairHistory history, boolean[] myMoves, boolean[] opponentMoves, int repeats) {
+        int period = myMoves.length;
+        int start = rounds;
+        int count = period * repeats;
+        int opponentPerPeriod = 0;
+        int myPerPeriod = 0;
+        double a = 1.0;
+        double b = 0.0;
+        for (int k = 0; k < period; k++) {
+            if (opponentMoves[k]) {
+                opponentPerPeriod++;
+                if (firstOpponentCooperation < 0) firstOpponentCooperation = start + k;
+            } else if (firstOpponentDefection < 0) {
+                firstOpponentDefection = start + k;
+            }
+            if (myMoves[k]) {
+                myPerPeriod++;
+            }
+            a *= decay;
+            b = decay * b + (1 - decay) * (opponentMoves[k] ? 1.0 : 0.0);
+        }
+
+        boolean opponentLast = opponentMoves[period - 1];
+        boolean myLast = myMoves[period - 1];
+        opponentStreak = streakAfter(opponentMoves, count, start > 0 && lastOpponentMove == opponentLast ? opponentStreak : 0);
+        myStreak = streakAfter(myMoves, count, start > 0 && lastMyMove == myLast ? myStreak : 0);
+        lastOpponentMove = opponentLast;
+        lastMyMove = myLast;
+        opponentCooperations += opponentPerPeriod * repeats;
+        myCooperations += myPerPeriod * repeats;
+        rounds += count;
+
+        windowOpponentCooperations = 0;
+        windowMyCooperations = 0;
+        for (int round = Math.max(0, rounds - window); round < rounds; round++) {
+            if (history.opponentMove(round)) windowOpponentCooperations++;
+            if (history.myMove(round)) windowMyCooperations++;
+        }
+
+        double totalA = 1.0;
+        double totalB = 0.0;
+        for (int n = repeats; n > 0; n >>= 1) {
+            if ((n & 1) != 0) {
+                totalB = a * totalB + b;
+                totalA *= a;
+            }
+            b = a * b + b;
+            a *= a;
+        }
+        decayedOpponentCooperation = totalA * decayedOpponentCooperation + totalB;
+    }
+
+    // 주기를 count 라운드 되풀이한 뒤 마지막 행동의 연속 횟수
+    // 주기 전체가 같은 행동이면 직전까지의 연속(previous)에 이어지고, 아니면 주기 끝부분의 연속만 남음
+    private static int streakAfter(boolean[] moves, int count, int previous) {
+        int period = moves.length;
+        int run = 1;
+        while (run < period && moves[period - 1 - run] == moves[period - 1]) {
+            run++;
+        }
+        return run == period ? previous + count : run;
+    }
+
+    public int rounds() {
+        return rounds;
+    }
+
+    public int opponentCooperations() {
+        return opponentCooperations;
+    }
+
+    public int opponentDefections() {
+        return rounds - opponentCooperations;
+    }
+
+    public int myCooperations() {
+        return myCooperations;
+    }
+
+    public int myDefections() {
+        return rounds - myCooperations;
+    }
+
+    // 상대 협력 비율 (기록이 없으면 0)
+    public double opponentCooperationRate() {
+        return rounds == 0 ? 0.0 : (double) opponentCooperations / rounds;
+    }
+
+    // 상대가 마지막까지 연속으로 협력한 횟수 (마지막 행동이 배신이면 0)
+    public int opponentCooperationStreak() {
+        return rounds > 0 && lastOpponentMove ? opponentStreak : 0;
+    }
+
+    // 상대가 마지막까지 연속으로 배신한 횟수 (마지막 행동이 협력이면 0)
+    public int opponentDefectionStreak() {
+        return rounds > 0 && !lastOpponentMove ? opponentStreak : 0;
+    }
+
+    public int myCooperationStreak() {
+        return rounds > 0 && lastMyMove ? myStreak : 0;
+    }
+
+    public int myDefectionStreak() {
+        return rounds > 0 && !lastMyMove ? myStreak : 0;
+    }
+
+    // 상대가 처음 배신한 라운드 (0부터 시작, 없으면 -1)
+    public int firstOpponentDefection() {
+        return firstOpponentDefection;
+    }
+
+    // 상대가 처음 협력한 라운드 (0부터 시작, 없으면 -1)
+    public int firstOpponentCooperation() {
+        return firstOpponentCooperation;
+    }
+
+    public boolean opponentEverDefected() {
+        return firstOpponentDefection >= 0;
+    }
+
+    public boolean opponentEverCooperated() {
+        return firstOpponentCooperation >= 0;
+    }
+
+    public int window() {
+        return window;
+    }
+
+    // 최근 window 라운드 안에서 상대가 협력한 횟수
+    public int windowOpponentCooperations() {
+        return windowOpponentCooperations;
+    }
+
+    public int windowOpponentDefections() {
+        return Math.min(rounds, window) - windowOpponentCooperations;
+    }
+
+    public int windowMyCooperations() {
+        return windowMyCooperations;
+    }
+
+    // 상대 협력의 지수 감쇠 평균: d = decay * d + (1 - decay) * (협력 ? 1 : 0)
+    public double decayedOpponentCooperation() {
+        return decayedOpponentCooperation;
+    }
+}
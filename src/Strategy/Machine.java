@@ -0,0 +1,109 @@
+package Strategy;
+
+/**
+ * 유한 상태 기계(FSM)로 표현한 전략
+ *
+ * - 상태마다 협력 확률이 있고(결정적 전략은 1 또는 0), 시작 상태는 항상 0
+ * - 한 라운드가 끝나면 실제로 실행된 양쪽 행동(노이즈 적용 후)에 따라 다음 상태로 이동
+ * - 전이 인덱스: next(state, outcome), outcome = (내 행동 ? 1 : 0) | (상대 행동 ? 2 : 0)
+ * - Strategy.machine()이 돌려준 기계는 choose()와 같은 행동(확률)을 내야 함
+ *   결정적 기계는 Game이 choose 대신 사용하고, 확률적 기계는 기대 점수 계산(MarkovEvaluator)에만 사용
+ */
+public final class Machine {
+    private final double[] cooperation; // 상태별 협력 확률
+    private final int[] next;           // next[state * 4 + outcome]
+    private final boolean deterministic;
+
+    // 모든 전이를 직접 지정 (내 행동에도 반응하는 전략용)
+    public Machine(boolean[] cooperates, int[] next) {
+        this(toProbabilities(cooperates), next);
+    }
+
+    public Machine(double[] cooperation, int[] next) {
+        if (next.length != cooperation.length * 4) {
+            throw new IllegalArgumentException("Transitions: " + next.length + ", States: " + cooperation.length);
+        }
+        for (int state : next) {
+            if (state < 0 || state >= cooperation.length) {
+                throw new IllegalArgumentException("State: " + state + ", States: " + cooperation.length);
+            }
+        }
+        boolean deterministic = true;
+        for (double p : cooperation) {
+            if (!(p >= 0.0 && p <= 1.0)) {
+                throw new IllegalArgumentException("Cooperation probability: " + p);
+            }
+            deterministic &= p == 0.0 || p == 1.0;
+        }
+        this.cooperation = cooperation.clone();
+        this.next = next.clone();
+        this.deterministic = deterministic;
+    }
+
+    private static double[] toProbabilities(boolean[] cooperates) {
+        double[] cooperation = new double[cooperates.length];
+        for (int state = 0; state < cooperates.length; state++) {
+            cooperation[state] = cooperates[state] ? 1.0 : 0.0;
+        }
+        return cooperation;
+    }
+
+    // 기억 1단계(memory-one) 전략: 첫 라운드 협력 확률과 직전 라운드 (내 행동, 상대 행동)별 협력 확률
+    // 상태 0 = 첫 라운드, 상태 1 + outcome = 직전 라운드 결과
+    public static Machine memoryOne(double first, double afterCC, double afterCD, double afterDC, double afterDD) {
+        double[] cooperation = new double[5];
+        cooperation[0] = first;
+        cooperation[1] = afterDD;
+        cooperation[2] = afterCD;
+        cooperation[3] = afterDC;
+        cooperation[4] = afterCC;
+        int[] next = new int[5 * 4];
+        for (int state = 0; state < 5; state++) {
+            for (int outcome = 0; outcome < 4; outcome++) {
+                next[state * 4 + outcome] = 1 + outcome;
+            }
+        }
+        return new Machine(cooperation, next);
+    }
+
+    // 상대의 행동에만 반응하는 전략: 상대 협력 시 onCooperate[state], 배신 시 onDefect[state]
+    public static Machine onOpponent(boolean[] cooperates, int[] onCooperate, int[] onDefect) {
+        return onOpponent(toProbabilities(cooperates), onCooperate, onDefect);
+    }
+
+    public static Machine onOpponent(double[] cooperation, int[] onCooperate, int[] onDefect) {
+        int[] next = new int[cooperation.length * 4];
+        for (int state = 0; state < cooperation.length; state++) {
+            for (int outcome = 0; outcome < 4; outcome++) {
+                next[state * 4 + outcome] = (outcome & 2) != 0 ? onCooperate[state] : onDefect[state];
+            }
+        }
+        return new Machine(cooperation, next);
+    }
+
+    public int states() {
+        return cooperation.length;
+    }
+
+    // 모든 상태의 협력 확률이 0 또는 1인지
+    public boolean isDeterministic() {
+        return deterministic;
+    }
+
+    public double cooperation(int state) {
+        return cooperation[state];
+    }
+
+    // 결정적 기계에서 상태의 행동
+    public boolean cooperates(int state) {
+        return cooperation[state] >= 0.5;
+    }
+
+    public int next(int state, boolean myMove, boolean opponentMove) {
+        return next[state * 4 + (myMove ? 1 : 0) + (opponentMove ? 2 : 0)];
+    }
+
+    public int next(int state, int outcome) {
+        return next[state * 4 + outcome];
+    }
+}
@@ -1,7 +1,5 @@
 package Strategy;
 
-import java.util.List;
-
 /**
  * 전략 이름: Merchant
  * 전략 개요: 상대의 마지막 행동과 반대되는 선택을 하여 이득을 추구하는 반응적 균형 전략
@@ -29,10 +27,13 @@ import java.util.List;
 */
 
 public class Merchant implements Strategy {
+    // 0: 배신(시작), 1: 협력 (이후 상대의 직전 행동과 반대)
+    private static final Machine MACHINE = Machine.onOpponent(new boolean[] {false, true}, new int[] {0, 0}, new int[] {1, 1});
+
     private boolean lastMove; // 이전에 내가 했던 선택 (true = 협력, false = 배신)
 
     @Override
-    public boolean choose(Player self, Player opponent, List<Boolean> opponentHistory) {
+    public boolean choose(Player self, Player opponent, PairHistory opponentHistory) {
         if (opponentHistory.isEmpty()) {
             return false; // 첫 턴에는 초기값 사용
         }
@@ -42,6 +43,26 @@ public class Merchant implements Strategy {
         return lastMove;
     }
 
+    @Override
+    public long stateFingerprint(Player opponent, PairHistory opponentHistory) {
+        return 0; // 직전 라운드만으로 결정
+    }
+
+    @Override
+    public Machine machine() {
+        return MACHINE;
+    }
+
+    @Override
+    public void reset() {
+        lastMove = false;
+    }
+
+    @Override
+    public int historyDepth() {
+        return 1; // 직전 라운드만 사용
+    }
+
     @Override
     public Strategy cloneStrategy() {
         return new Merchant(); // 새 전략 인스턴스 생성
@@ -1,10 +1,5 @@
 package Strategy;
 
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.Random;
-
 /**
  * 전략 이름: Mutation
  * 전략 개요: 평가 기반 협력-보복 최적화를 통해 진화적으로 적응하는 전략
@@ -36,36 +31,40 @@ import java.util.Random;
 */
 
 public class Mutation implements Strategy {
-    private final Random random = new Random();
-    
-    // 각 플레이어별 평가값 저장 (최적화 성능 평가)
-    private final Map<Player, Double> lastEvaluation = new HashMap<>();
-    
-    // 각 플레이어별 현재 위치 값 저장 (자신이 관리하는 최적화 변수)
-    private final Map<Player, Double> currentValue = new HashMap<>();
-    
-    // 각 플레이어별 탐색 강도 (협력 시 부드러운 탐색)
-    private final Map<Player, Double> explorationFactor = new HashMap<>();
-    
-    // 각 플레이어별 변이 강도 (보복 시 강한 변이)
-    private final Map<Player, Double> mutationRate = new HashMap<>();
+
+    // 각 플레이어별 상태
+    private static final class State {
+        boolean initialized;      // currentValue 초기화 여부
+        boolean evaluated;        // lastEvaluation 저장 여부
+        double lastEvaluation;    // 평가값 저장 (최적화 성능 평가)
+        double currentValue;      // 현재 위치 값 저장 (자신이 관리하는 최적화 변수)
+        double explorationFactor; // 탐색 강도 (협력 시 부드러운 탐색)
+        double mutationRate;      // 변이 강도 (보복 시 강한 변이)
+    }
 
     @Override
-    public boolean choose(Player self, Player opponent, List<Boolean> opponentHistory) {
+    public Object newPairState() {
+        return new State();
+    }
+
+    @Override
+    public boolean choose(Player self, Player opponent, PairHistory opponentHistory) {
+        State state = opponentHistory.state();
         int rounds = opponentHistory.size();
 
         // 상대 플레이어의 currentValue를 초기화 (최초 만남 시)
-        if (!currentValue.containsKey(opponent)) {
-            currentValue.put(opponent, random.nextDouble() * 20 - 10); // -10 ~ 10 범위에서 랜덤 초기화
+        if (!state.initialized) {
+            state.currentValue = opponentHistory.random().nextDouble() * 20 - 10; // -10 ~ 10 범위에서 랜덤 초기화
+            state.initialized = true;
         }
 
         // 첫 번째 라운드는 랜덤 선택 & 탐색/변이 계수 초기화
         if (rounds == 0) {
-            boolean firstAction = random.nextBoolean();
+            boolean firstAction = opponentHistory.random().nextBoolean();
 
             // 탐색 및 변이 계수를 무작위로 초기화
-            explorationFactor.put(opponent, 0.05 + random.nextDouble() * 0.1); // 0.05 ~ 0.15
-            mutationRate.put(opponent, 0.1 + random.nextDouble() * 0.2); // 0.1 ~ 0.3
+            state.explorationFactor = 0.05 + opponentHistory.random().nextDouble() * 0.1; // 0.05 ~ 0.15
+            state.mutationRate = 0.1 + opponentHistory.random().nextDouble() * 0.2; // 0.1 ~ 0.3
 
             return firstAction;
         }
@@ -74,16 +73,17 @@ public class Mutation implements Strategy {
         boolean lastOpponentMove = opponentHistory.get(rounds - 1);
 
         // 현재 평가값 가져오기
-        double currentEval = evaluate(opponent);
+        double currentEval = evaluate(state);
 
         // 이전 평가값이 없는 경우, 현재 평가값 저장 후 협력
-        if (!lastEvaluation.containsKey(opponent)) {
-            lastEvaluation.put(opponent, currentEval);
+        if (!state.evaluated) {
+            state.lastEvaluation = currentEval;
+            state.evaluated = true;
             return true;
         }
 
         // 이전 평가값과 현재 평가값 비교
-        double previousEval = lastEvaluation.get(opponent);
+        double previousEval = state.lastEvaluation;
         boolean shouldCooperate = currentEval < previousEval; // 성능이 개선되었으면 협력
 
         // 탐색 조절: 협력(부드러운 탐색) vs. 보복(강한 변이)
@@ -91,30 +91,33 @@ public class Mutation implements Strategy {
         if (shouldCooperate) {
             // 협력: 부드러운 탐색 (Exploration)
             finalAction = lastOpponentMove; // 상대의 행동을 따라감
-            double newValue = currentValue.get(opponent) + explorationFactor.get(opponent) * (random.nextDouble() * 2 - 1);
-            currentValue.put(opponent, newValue);
+            state.currentValue += state.explorationFactor * (opponentHistory.random().nextDouble() * 2 - 1);
         }
         else {
             // 보복: 강한 변이 (Mutation)
             finalAction = !lastOpponentMove; // 상대의 행동을 반대로 함
-            double newValue = currentValue.get(opponent) + mutationRate.get(opponent) * (random.nextDouble() * 2 - 1);
-            currentValue.put(opponent, newValue);
+            state.currentValue += state.mutationRate * (opponentHistory.random().nextDouble() * 2 - 1);
         }
 
         // 현재 평가값 업데이트
-        lastEvaluation.put(opponent, currentEval);
+        state.lastEvaluation = currentEval;
 
         return finalAction;
     }
 
+    @Override
+    public int historyDepth() {
+        return 1; // 직전 라운드만 사용
+    }
+
     @Override
     public Strategy cloneStrategy() {
         return new Mutation();
     }
 
     // 평가 함수: 특정 목적 함수 기반으로 플레이어의 성능을 평가
-    private double evaluate(Player opponent) {
-        double x = currentValue.get(opponent); // 전략에서 관리하는 플레이어의 위치 값
+    private double evaluate(State state) {
+        double x = state.currentValue; // 전략에서 관리하는 플레이어의 위치 값
         return objectiveFunction(x);
     }
 
@@ -1,7 +1,4 @@
 package Strategy;
-import java.util.List;
-import java.util.Random;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 전략 이름: MutualDestruction
@@ -36,41 +33,50 @@ import java.util.concurrent.ConcurrentHashMap;
 */
 
 public class MutualDestruction implements Strategy {
-    private final ConcurrentHashMap<Player, Boolean> suicideMode = new ConcurrentHashMap<>();
-    private final ConcurrentHashMap<Player, Integer> betrayCount = new ConcurrentHashMap<>();
-    private final ConcurrentHashMap<Player, Integer> totalRounds = new ConcurrentHashMap<>();
-    private final Random random = new Random();
+
+    // 상대별 상태
+    private static final class State {
+        boolean suicideMode;
+        int betrayCount;
+        int totalRounds;
+    }
 
     @Override
-    public boolean choose(Player self, Player opponent, List<Boolean> opponentHistory) {
-        suicideMode.putIfAbsent(opponent, false);
-        betrayCount.putIfAbsent(opponent, 0);
-        totalRounds.putIfAbsent(opponent, 0);
+    public Object newPairState() {
+        return new State();
+    }
 
-        int rounds = totalRounds.get(opponent);
-        totalRounds.put(opponent, rounds + 1);
+    @Override
+    public boolean choose(Player self, Player opponent, PairHistory opponentHistory) {
+        State state = opponentHistory.state();
+        int rounds = state.totalRounds++;
 
         // 첫 10라운드는 랜덤하게 협력/배신을 섞음
         if (rounds < 10) {
-            boolean move = random.nextBoolean();
-            if (!move) betrayCount.put(opponent, betrayCount.get(opponent) + 1);
+            boolean move = opponentHistory.random().nextBoolean();
+            if (!move) state.betrayCount++;
             return move;
         }
 
         // 상대가 40% 이상 배신하면 함께 죽자 모드 활성화
-        double betrayalRate = (double) betrayCount.get(opponent) / rounds;
+        double betrayalRate = (double) state.betrayCount / rounds;
         if (betrayalRate >= 0.4) {
-            suicideMode.put(opponent, true);
+            state.suicideMode = true;
         }
 
         // 함께 죽자 모드: 상대 배신하면 나도 배신, 상대 협력하면 50% 확률로 배신
-        if (suicideMode.get(opponent)) {
-            return opponentHistory.get(opponentHistory.size() - 1) || random.nextBoolean();
+        if (state.suicideMode) {
+            return opponentHistory.get(opponentHistory.size() - 1) || opponentHistory.random().nextBoolean();
         }
 
         return true; // 평소엔 협력
     }
 
+    @Override
+    public int historyDepth() {
+        return 1; // 직전 라운드만 사용
+    }
+
     @Override
     public Strategy cloneStrategy() {
         return new MutualDestruction();
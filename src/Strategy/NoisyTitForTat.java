@@ -1,8 +1,5 @@
 package Strategy;
 
-import java.util.List;
-import java.util.Random;
-
 /**
  * 전략 이름: NoisyTitForTat
  * 전략 개요: 상대의 마지막 행동을 80% 확률로 따라가는 변형된 Tit-for-Tat 전략
@@ -33,10 +30,11 @@ import java.util.Random;
 */ 
 
 public class NoisyTitForTat implements Strategy {
-    private final Random random = new Random();
+    // 첫 라운드 협력, 이후 80% 확률로 상대의 직전 행동
+    private static final Machine MACHINE = Machine.memoryOne(1.0, 0.8, 0.2, 0.8, 0.2);
 
     @Override
-    public boolean choose(Player self, Player opponent, List<Boolean> opponentHistory) {
+    public boolean choose(Player self, Player opponent, PairHistory opponentHistory) {
         // 첫 번째 라운드는 무조건 협력(C)
         if (opponentHistory.isEmpty()) {
             return true;
@@ -46,7 +44,17 @@ public class NoisyTitForTat implements Strategy {
         boolean lastOpponentMove = opponentHistory.get(opponentHistory.size() - 1);
 
         // 80% 확률로 상대의 행동을 따라가고, 20% 확률로 반대 행동 선택
-        return random.nextDouble() < 0.8 ? lastOpponentMove : !lastOpponentMove;
+        return opponentHistory.random().nextDouble() < 0.8 ? lastOpponentMove : !lastOpponentMove;
+    }
+
+    @Override
+    public Machine machine() {
+        return MACHINE; // 기대 점수 계산용 (확률적 기계)
+    }
+
+    @Override
+    public int historyDepth() {
+        return 1; // 직전 라운드만 사용
     }
 
     @Override
@@ -1,10 +1,5 @@
 package Strategy;
 
-import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
-
 /**
  * 전략 이름: OmegaTitForTat
  * 전략 개요: Tit-for-Tat에 교착 해소와 랜덤성 감지를 추가한 스마트 보복형 전략
@@ -37,68 +32,76 @@ import java.util.concurrent.CopyOnWriteArrayList;
 */
 
 public class OmegaTitForTat implements Strategy {
-    private final Map<Player, Integer> deadlockCounter = new ConcurrentHashMap<>(); // 교착 상태 감지용 카운터
-    private final Map<Player, Integer> randomnessCounter = new ConcurrentHashMap<>(); // 랜덤성 감지용 카운터
-    private final Map<Player, Integer> totalRounds = new ConcurrentHashMap<>(); // 상대별 총 라운드 수
-    private final Map<Player, Boolean> defectMode = new ConcurrentHashMap<>(); // 무조건 배신 모드 활성화 여부
-    private final Map<Player, List<Boolean>> opponentHistories = new ConcurrentHashMap<>(); // 상대 기록 저장
+    // 상대별 상태
+    private static final class State {
+        int deadlockCounter;     // 교착 상태 감지용 카운터
+        int randomnessCounter;   // 랜덤성 감지용 카운터
+        int totalRounds;         // 총 라운드 수
+        boolean defectMode;      // 무조건 배신 모드 활성화 여부
+    }
 
     private static final int DEADLOCK_THRESHOLD = 3; // 교착 상태 감지 임계값
     private static final int RANDOMNESS_THRESHOLD = 8; // 랜덤성 감지 임계값
 
     @Override
-    public boolean choose(Player self, Player opponent, List<Boolean> opponentHistory) {
-        opponentHistories.putIfAbsent(opponent, new CopyOnWriteArrayList<>(opponentHistory));
-        List<Boolean> history = opponentHistories.get(opponent);
+    public Object newPairState() {
+        return new State();
+    }
+
+    @Override
+    public boolean choose(Player self, Player opponent, PairHistory opponentHistory) {
+        State state = opponentHistory.state();
 
-        // 상대와의 총 라운드 수 증가 (동기화된 업데이트)
-        totalRounds.compute(opponent, (k, v) -> (v == null) ? 1 : v + 1);
+        // 상대와의 총 라운드 수 증가
+        state.totalRounds++;
 
         // 첫 번째 라운드는 무조건 협력(C)
-        if (history.isEmpty()) {
+        if (opponentHistory.isEmpty()) {
             return true;
         }
 
         // 만약 무조건 배신 모드(defectMode)라면 남은 게임 동안 계속 배신(D)
-        defectMode.putIfAbsent(opponent, false);
-        if (defectMode.get(opponent)) {
+        if (state.defectMode) {
             return false;
         }
 
         // 최근 2번의 상대 행동 확인
-        int historySize = history.size();
+        int historySize = opponentHistory.size();
         if (historySize > 1) {
-            boolean lastMove = history.get(historySize - 1);
-            boolean secondLastMove = history.get(historySize - 2);
+            boolean lastMove = opponentHistory.opponentMove(historySize - 1);
+            boolean secondLastMove = opponentHistory.opponentMove(historySize - 2);
 
             // (C, D) → (D, C) 패턴 반복 여부 확인 (Deadlock 감지)
-            deadlockCounter.putIfAbsent(opponent, 0);
             if (secondLastMove != lastMove) {
-                deadlockCounter.compute(opponent, (k, v) -> v + 1);
+                state.deadlockCounter++;
             } else {
-                deadlockCounter.put(opponent, 0);
+                state.deadlockCounter = 0;
             }
 
             // Deadlock 감지 시, 일정 횟수 넘으면 강제 협력(C)하여 루프 탈출
-            if (deadlockCounter.get(opponent) >= DEADLOCK_THRESHOLD) {
+            if (state.deadlockCounter >= DEADLOCK_THRESHOLD) {
                 return true;
             }
 
             // 랜덤한 행동 감지 (상대의 변동성이 높으면 증가)
-            randomnessCounter.putIfAbsent(opponent, 0);
-            if (secondLastMove != lastMove || historySize > 2 && history.get(historySize - 3) != lastMove) {
-                randomnessCounter.compute(opponent, (k, v) -> v + 1);
+            if (secondLastMove != lastMove || historySize > 2 && opponentHistory.opponentMove(historySize - 3) != lastMove) {
+                state.randomnessCounter++;
             }
 
             // 만약 랜덤성이 너무 높다면, 무조건 배신 모드로 전환
-            if (randomnessCounter.get(opponent) >= RANDOMNESS_THRESHOLD) {
-                defectMode.put(opponent, true);
+            if (state.randomnessCounter >= RANDOMNESS_THRESHOLD) {
+                state.defectMode = true;
                 return false; // 무조건 배신 모드 돌입
             }
         }
 
         // 일반적인 Tit For Tat 행동 (상대의 마지막 행동을 따라감)
-        return history.get(historySize - 1);
+        return opponentHistory.lastOpponentMove();
+    }
+
+    @Override
+    public int historyDepth() {
+        return 3; // 최근 3라운드 사용
     }
 
     @Override
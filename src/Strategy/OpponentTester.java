@@ -1,9 +1,5 @@
 package Strategy;
 
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-
 /**
  * 전략 이름: OpponentTester
  * 전략 개요: 상대의 첫 반응을 기반으로 이후 5라운드씩 고정된 행동을 반복하는 장기적 패턴 전략
@@ -35,46 +31,59 @@ import java.util.Map;
 */
 
 public class OpponentTester implements Strategy {
-    private final Map<Player, Integer> roundsPlayed = new HashMap<>(); // 경기 진행 라운드 수
-    private final Map<Player, Boolean> currentAction = new HashMap<>(); // 현재 5라운드 동안 고정된 행동
-    private final Map<Player, Integer> actionCounter = new HashMap<>(); // 5라운드 행동 카운트
+    // 상대별 상태
+    private static final class State {
+        int roundsPlayed;      // 경기 진행 라운드 수
+        boolean currentAction; // 현재 5라운드 동안 고정된 행동
+        int actionCounter;     // 5라운드 행동 카운트
+    }
+
+    @Override
+    public Object newPairState() {
+        return new State();
+    }
 
     @Override
-    public boolean choose(Player self, Player opponent, List<Boolean> opponentHistory) {
-        int rounds = roundsPlayed.getOrDefault(opponent, 0) + 1;
-        roundsPlayed.put(opponent, rounds);
+    public boolean choose(Player self, Player opponent, PairHistory opponentHistory) {
+        State state = opponentHistory.state();
+        int rounds = ++state.roundsPlayed;
 
         // 첫 라운드는 무조건 배신(D)
         if (rounds == 1) {
-            currentAction.put(opponent, false); // 배신(D)
-            actionCounter.put(opponent, 1);
+            state.currentAction = false; // 배신(D)
+            state.actionCounter = 1;
             return false;
         }
 
         // 5연속 행동이 끝난 경우, 상대의 최근 반응을 분석하여 새로운 5연속 행동을 결정
-        if (actionCounter.getOrDefault(opponent, 0) >= 5) {
-            boolean lastMyAction = currentAction.get(opponent); // 내가 직전 5라운드 동안 했던 행동
+        if (state.actionCounter >= 5) {
+            boolean lastMyAction = state.currentAction; // 내가 직전 5라운드 동안 했던 행동
             boolean opponentLastAction = opponentHistory.get(opponentHistory.size() - 1); // 상대의 마지막 행동
 
             if (lastMyAction) { // 내가 직전 5연속 협력(C)했음
                 if (!opponentLastAction) { // 상대가 배신(D)했으면 → 5연속 협력
-                    currentAction.put(opponent, true);
+                    state.currentAction = true;
                 } else { // 상대가 협력(C)했으면 → 5연속 배신
-                    currentAction.put(opponent, false);
+                    state.currentAction = false;
                 }
             } else { // 내가 직전 5연속 배신(D)했음
                 if (!opponentLastAction) { // 상대도 배신(D)했으면 → 5연속 협력
-                    currentAction.put(opponent, true);
+                    state.currentAction = true;
                 } else { // 상대가 협력(C)했으면 → 5연속 배신
-                    currentAction.put(opponent, false);
+                    state.currentAction = false;
                 }
             }
-            actionCounter.put(opponent, 1); // 새로운 5라운드 시작
+            state.actionCounter = 1; // 새로운 5라운드 시작
         } else {
-            actionCounter.put(opponent, actionCounter.get(opponent) + 1); // 현재 5연속 행동 유지
+            state.actionCounter++; // 현재 5연속 행동 유지
         }
 
-        return currentAction.get(opponent); // 5연속 동안 정한 행동을 반환
+        return state.currentAction; // 5연속 동안 정한 행동을 반환
+    }
+
+    @Override
+    public int historyDepth() {
+        return 1; // 직전 라운드만 사용
     }
 
     @Override
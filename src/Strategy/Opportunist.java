@@ -1,7 +1,5 @@
 package Strategy;
 
-import java.util.List;
-
 /**
  * 전략 이름: Opportunist
  * 전략 유형: 기회주의형, 계산된 배신자
@@ -37,7 +35,7 @@ import java.util.List;
 public class Opportunist implements Strategy {
 
     @Override
-    public boolean choose(Player self, Player opponent, List<Boolean> opponentHistory) {
+    public boolean choose(Player self, Player opponent, PairHistory opponentHistory) {
         // 첫 번째 라운드는 무조건 협력 (C)
         if (opponentHistory.isEmpty()) {
             return true;
@@ -50,8 +48,18 @@ public class Opportunist implements Strategy {
         return !(lastRound > 0 && opponentHistory.get(lastRound) && self.getMyLastHistory(opponent));
     }
 
+    @Override
+    public long stateFingerprint(Player opponent, PairHistory opponentHistory) {
+        return opponentHistory.size() > 1 ? 1 : 0; // 두 번째 라운드까지는 무조건 협력
+    }
+
+    @Override
+    public int historyDepth() {
+        return 1; // 직전 라운드만 사용
+    }
+
     @Override
     public Strategy cloneStrategy() {
-        return new Opportunist();
+        return this; // 내부 상태가 없으므로 복제하지 않고 모든 게임이 한 인스턴스를 공유 (flyweight)
     }
 }
\ No newline at end of file
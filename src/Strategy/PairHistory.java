@@ -0,0 +1,223 @@
+package Strategy;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * 한 상대와의 대전 기록 (나와 상대의 행동을 모두 저장)
+ *
+ * - 라운드마다 2비트: 하위 비트 = 내 행동, 상위 비트 = 상대 행동 (1 = 협력, 0 = 배신)
+ * - long 하나에 32라운드가 들어가므로 라운드당 2비트만 사용
+ * - List<Boolean>으로 읽으면 기존처럼 상대의 행동 기록으로 보임
+ * - myMove(i) / opponentMove(i)로 양쪽 행동을 박싱 없이 바로 조회
+ * - stats()로 기록을 다시 훑지 않고 누적 통계를 O(1)로 조회
+ * - state()로 이 상대에 대한 전략의 내부 상태 객체를 조회 (Strategy.newPairState())
+ * - random()으로 이 상대에 대해 전략이 쓰는 난수 스트림을 조회 (Game이 게임 시드와 두 플레이어 id로 시드를 정함)
+ * - 동기화 없음: 기록을 가진 Player와 같은 스레드 한정 규칙을 따름 (ThreadOwner)
+ *
+ * 기록 깊이 제한 (Strategy.historyDepth()):
+ * - 제한이 있으면 최근 depth 라운드만 링 버퍼로 보관하고, 그 이전은 stats()의 누적 값으로만 남음
+ * - size()는 항상 전체 라운드 수이지만, 보관 범위 밖의 라운드를 읽으면 IndexOutOfBoundsException
+ * - 게임 길이와 무관하게 상대당 메모리가 일정함
+ */
+public class PairHistory extends AbstractList<Boolean> {
+    public static final int UNBOUNDED = Integer.MAX_VALUE;
+    private static final int ROUNDS_PER_WORD = 32;
+
+    private long[] words;
+    private int size = 0;
+    private final int retained; // 읽을 수 있는 최근 라운드 수 (UNBOUNDED면 전체)
+    private final HistoryStats stats;
+    private Object state; // 전략의 상대별 상태 (없으면 null)
+    private RandomGenerator random; // 전략의 상대별 난수 스트림 (Game이 seedRandom으로 지정, 지정 전이면 null)
+    private ThreadOwner owner; // 디버그 검사용 소유 스레드 (Player가 지정, 없으면 검사 안 함)
+
+    public PairHistory() {
+        this(UNBOUNDED, HistoryStats.DEFAULT_WINDOW, HistoryStats.DEFAULT_DECAY, null);
+    }
+
+    public PairHistory(int depth, int statsWindow, double statsDecay, Object state) {
+        this.stats = new HistoryStats(statsWindow, statsDecay);
+        this.state = state;
+        if (depth == UNBOUNDED) {
+            this.retained = UNBOUNDED;
+            this.words = new long[2];
+        } else {
+            // 통계의 슬라이딩 윈도우가 빠져나가는 라운드(window + 1번째 전)를 읽어야 하므로 함께 보관
+            this.retained = Math.max(depth, statsWindow + 1);
+            // 지금 쓰는 word 외에 retained 라운드를 온전히 담을 word 수만큼 링을 둠
+            this.words = new long[(retained + ROUNDS_PER_WORD - 1) / ROUNDS_PER_WORD + 1];
+        }
+    }
+
+    public static PairHistory forStrategy(Strategy strategy) {
+        return new PairHistory(strategy.historyDepth(), strategy.statsWindow(), strategy.statsDecay(),
+            strategy.newPairState());
+    }
+
+    // 다음 게임을 위해 기록을 비움 (배열은 재사용, 상태 객체는 전략이 새로 만든 것으로 교체, 난수는 Game이 다시 지정)
+    public void reset(Object state) {
+        if (ThreadOwner.DEBUG && owner != null) {
+            owner.check();
+        }
+        Arrays.fill(words, 0L);
+        size = 0;
+        stats.reset();
+        this.state = state;
+        this.random = null;
+    }
+
+    public HistoryStats stats() {
+        return stats;
+    }
+
+    // 전략이 newPairState()로 만든 상태 객체 (전략 자신의 타입으로 받음)
+    @SuppressWarnings("unchecked")
+    public <S> S state() {
+        if (ThreadOwner.DEBUG && owner != null) {
+            owner.check();
+        }
+        return (S) state;
+    }
+
+    // 이 상대에 대해 전략이 쓰는 난수 (choose() 안에서만 사용, Math.random()이나 전략 필드의 Random 대신)
+    // 상대 쌍마다 따로인 스트림이라 다른 쌍의 실행 순서나 스레드와 무관하게 같은 값을 뽑음
+    // 시드 없는 스트림은 만들지 않음: seedRandom 전에 부르면 IllegalStateException (결과가 시드만으로 정해지도록)
+    public RandomGenerator random() {
+        if (ThreadOwner.DEBUG && owner != null) {
+            owner.check();
+        }
+        if (random == null) {
+            throw new IllegalStateException("Strategy random stream is not seeded (call seedRandom first)");
+        }
+        return random;
+    }
+
+    // 난수 스트림의 시드 지정 (Game이 경기 전에 호출)
+    // antithetic이면 같은 시드의 스트림이 내는 값을 뒤집어 냄 (u 대신 1 - u, true 대신 false): 대조 변량 게임용
+    public void seedRandom(long seed, boolean antithetic) {
+        SplittableRandom base = new SplittableRandom(seed);
+        this.random = antithetic ? new Antithetic(base) : base;
+    }
+
+    // 같은 시드의 SplittableRandom과 짝을 이루는 대조 스트림: 비트를 뒤집어 균등 분포를 거꾸로 읽음
+    private static final class Antithetic implements RandomGenerator {
+        private final SplittableRandom base;
+
+        Antithetic(SplittableRandom base) {
+            this.base = base;
+        }
+
+        @Override
+        public long nextLong() {
+            return ~base.nextLong();
+        }
+
+        @Override
+        public int nextInt() {
+            return ~base.nextInt();
+        }
+
+        @Override
+        public boolean nextBoolean() {
+            return !base.nextBoolean();
+        }
+
+        @Override
+        public double nextDouble() {
+            return (~base.nextLong() >>> 11) * 0x1.0p-53; // base.nextDouble()의 상위 53비트를 뒤집은 값 (1 - u)
+        }
+    }
+
+    // 이 기록을 가진 Player의 소유 스레드 검사에 묶음
+    void confineTo(ThreadOwner owner) {
+        this.owner = owner;
+    }
+
+    public boolean isBounded() {
+        return retained != UNBOUNDED;
+    }
+
+    // 한 라운드의 실제 행동(노이즈 적용 후)을 기록하고 통계 갱신
+    public void record(boolean myMove, boolean opponentMove) {
+        if (ThreadOwner.DEBUG && owner != null) {
+            owner.check();
+        }
+        put(size, myMove, opponentMove, false);
+        size++;
+        stats.update(this, myMove, opponentMove);
+    }
+
+    // 한 주기(myMoves[k], opponentMoves[k])를 repeats번 되풀이한 라운드를 한 번에 기록 (Game의 주기 건너뛰기)
+    // - 제한이 있으면 보관 범위(retained)에 드는 마지막 라운드만 링 버퍼에 씀 (그 이전은 어차피 읽을 수 없음)
+    // - 통계는 라운드마다 갱신하지 않고 주기 단위로 한 번에 진행 (HistoryStats.advance)
+    public void recordRepeated(boolean[] myMoves, boolean[] opponentMoves, int repeats) {
+        if (ThreadOwner.DEBUG && owner != null) {
+            owner.check();
+        }
+        int period = myMoves.length;
+        int count = period * repeats;
+        int from = isBounded() ? Math.max(0, count - retained) : 0;
+        for (int k = from; k < count; k++) {
+            put(size + k, myMoves[k % period], opponentMoves[k % period], k == from);
+        }
+        size += count;
+        stats.advance(this, myMoves, opponentMoves, repeats);
+    }
+
+    // round번째 라운드의 행동을 씀
+    // word의 첫 라운드이거나 fresh면(건너뛴 뒤 처음 쓰는 라운드) 그 자리부터 위쪽 비트를 비움 (링 버퍼의 이전 바퀴 값)
+    private void put(int round, boolean myMove, boolean opponentMove, boolean fresh) {
+        int word = round / ROUNDS_PER_WORD;
+        int shift = (round % ROUNDS_PER_WORD) * 2;
+        if (isBounded()) {
+            word %= words.length;
+        } else if (word >= words.length) {
+            words = Arrays.copyOf(words, Math.max(words.length * 2, word + 1));
+        }
+        if (shift == 0 || fresh) {
+            words[word] &= (1L << shift) - 1;
+        }
+        long bits = (myMove ? 1L : 0L) | (opponentMove ? 2L : 0L);
+        words[word] |= bits << shift;
+    }
+
+    public boolean myMove(int round) {
+        return (bitsAt(round) & 1L) != 0;
+    }
+
+    public boolean opponentMove(int round) {
+        return (bitsAt(round) & 2L) != 0;
+    }
+
+    public boolean lastMyMove() {
+        return myMove(size - 1);
+    }
+
+    public boolean lastOpponentMove() {
+        return opponentMove(size - 1);
+    }
+
+    private long bitsAt(int round) {
+        if (round < 0 || round >= size) {
+            throw new IndexOutOfBoundsException("Round: " + round + ", Size: " + size);
+        }
+        if (size - round > retained) {
+            throw new IndexOutOfBoundsException("Round: " + round + " is older than the retained depth " + retained);
+        }
+        return words[(round / ROUNDS_PER_WORD) % words.length] >>> ((round % ROUNDS_PER_WORD) * 2);
+    }
+
+    // List<Boolean> 뷰: 상대의 행동 기록
+    @Override
+    public Boolean get(int index) {
+        return opponentMove(index);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
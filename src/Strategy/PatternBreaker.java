@@ -1,10 +1,5 @@
 package Strategy;
 
-import java.util.List;
-import java.util.Map;
-import java.util.Random;
-import java.util.concurrent.ConcurrentHashMap;
-
 /**
  * 전략 이름: PatternBreaker
  * 전략 유형: 랜덤형 + 착취형 (패턴 붕괴자, 교란 전략)
@@ -41,36 +36,39 @@ import java.util.concurrent.ConcurrentHashMap;
 */ 
 
 public class PatternBreaker implements Strategy {
-    private final Map<Player, Integer> opponentCooperationCount = new ConcurrentHashMap<>();
-    private final Map<Player, Integer> opponentDefectionCount = new ConcurrentHashMap<>();
-    private final Map<Player, Integer> totalRounds = new ConcurrentHashMap<>();
-    private final Random random = new Random();
+
+    // 상대별 상태
+    private static final class State {
+        int opponentCooperationCount;
+        int opponentDefectionCount;
+        int totalRounds;
+    }
 
     @Override
-    public boolean choose(Player self, Player opponent, List<Boolean> opponentHistory) {
-        // computeIfAbsent()로 안전한 초기화
-        totalRounds.computeIfAbsent(opponent, k -> 0);
-        opponentCooperationCount.computeIfAbsent(opponent, k -> 0);
-        opponentDefectionCount.computeIfAbsent(opponent, k -> 0);
+    public Object newPairState() {
+        return new State();
+    }
 
-        totalRounds.put(opponent, totalRounds.get(opponent) + 1);
-        int rounds = totalRounds.get(opponent);
+    @Override
+    public boolean choose(Player self, Player opponent, PairHistory opponentHistory) {
+        State state = opponentHistory.state();
+        int rounds = ++state.totalRounds;
 
         // 첫 10라운드는 데이터 수집을 위해 기본적으로 협력
         if (rounds <= 10) {
             return true;
         }
 
-        // 안전한 협력/배신 횟수 기록
-        int coopCount = opponentCooperationCount.get(opponent);
-        int defectCount = opponentDefectionCount.get(opponent);
+        // 협력/배신 횟수 기록
+        int coopCount = state.opponentCooperationCount;
+        int defectCount = state.opponentDefectionCount;
 
         if (!opponentHistory.isEmpty()) {
             boolean lastMove = opponentHistory.get(opponentHistory.size() - 1);
             if (lastMove) {
-                opponentCooperationCount.put(opponent, coopCount + 1);
+                state.opponentCooperationCount = coopCount + 1;
             } else {
-                opponentDefectionCount.put(opponent, defectCount + 1);
+                state.opponentDefectionCount = defectCount + 1;
             }
         }
 
@@ -86,7 +84,7 @@ public class PatternBreaker implements Strategy {
 
         // 확률적 협력가(랜덤 대응) 감지
         if (coopRate > 0.3 && coopRate < 0.7) {  // 너무 랜덤하게 행동하는 경우
-            return random.nextBoolean();  // 랜덤으로 대응 (50% 확률)
+            return opponentHistory.random().nextBoolean();  // 랜덤으로 대응 (50% 확률)
         }
 
         // 완전한 협력가(Always Cooperate) 착취
@@ -109,6 +107,11 @@ public class PatternBreaker implements Strategy {
     }
 
     
+    @Override
+    public int historyDepth() {
+        return 1; // 직전 라운드만 사용
+    }
+
     @Override
     public Strategy cloneStrategy() {
         return new PatternBreaker();
@@ -1,9 +1,5 @@
 package Strategy;
 
-import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-
 /**
  * 전략 이름: Pavlov
  * 전략 유형: 협력형 + 보복형 (조건 반사적 학습자, 성공 유지 본능자)
@@ -36,27 +32,19 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 
 public class Pavlov implements Strategy {
-    private final Map<Player, List<Boolean>> moveHistory = new ConcurrentHashMap<>();
+    // 0: 첫 라운드, 1: 협력, 2: 배신 (같은 행동이면 유지, 다르면 변경 → 결과적으로 상대의 실제 직전 행동)
+    private static final Machine MACHINE = Machine.onOpponent(new boolean[] {true, true, false}, new int[] {1, 1, 1}, new int[] {1, 2, 2});
 
     @Override
-    public boolean choose(Player self, Player opponent, List<Boolean> opponentHistory) {
-        // 첫 번째 라운드는 무조건 협력
-        if (!moveHistory.containsKey(opponent)) {
-            moveHistory.put(opponent, new java.util.ArrayList<>());
-            return true;
-        }
-
-        List<Boolean> myHistory = moveHistory.get(opponent);
-
-        // 첫 번째 라운드는 무조건 협력
-        if (myHistory.isEmpty()) {
-            myHistory.add(true);
+    public boolean choose(Player self, Player opponent, PairHistory opponentHistory) {
+        // 첫 두 라운드는 무조건 협력 (기존 구현은 첫 호출에서 자기 기록을 만들기만 하고, 두 번째 호출에서 첫 행동을 기록함)
+        if (opponentHistory.size() < 2) {
             return true;
         }
 
-        // 직전 라운드에서 선택한 행동
-        boolean myLastMove = myHistory.get(myHistory.size() - 1);
-        boolean opponentLastMove = opponentHistory.get(opponentHistory.size() - 1);
+        // 직전 라운드에서 선택한 행동 (대전 기록에서 양쪽 행동을 함께 조회)
+        boolean myLastMove = opponentHistory.lastMyMove();
+        boolean opponentLastMove = opponentHistory.lastOpponentMove();
 
         // Pavlov 전략: 성공하면 유지, 실패하면 변경
         boolean nextMove;
@@ -66,14 +54,26 @@ public class Pavlov implements Strategy {
             nextMove = !myLastMove; // 실패했으면 변경
         }
 
-        // 히스토리 업데이트
-        myHistory.add(nextMove);
-
         return nextMove;
     }
 
+    @Override
+    public long stateFingerprint(Player opponent, PairHistory opponentHistory) {
+        return opponentHistory.size() > 1 ? 1 : 0; // 두 번째 라운드까지는 무조건 협력
+    }
+
+    @Override
+    public Machine machine() {
+        return MACHINE;
+    }
+
+    @Override
+    public int historyDepth() {
+        return 1; // 직전 라운드만 사용
+    }
+
     @Override
     public Strategy cloneStrategy() {
         return new Pavlov();
     }
-}
\ No newline at end of file
+}
@@ -1,8 +1,5 @@
 package Strategy;
 
-import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
-
 /**
  * 전략 이름: PeacefulTitForTat
  * 전략 유형: 보복형 + 협력형 (참을성 있는 화해자, 신중한 평화주의자)
@@ -35,11 +32,21 @@ import java.util.concurrent.ConcurrentHashMap;
 */ 
 
 public class PeacefulTitForTat implements Strategy {
-    private final ConcurrentHashMap<Player, Integer> consecutiveDefects = new ConcurrentHashMap<>(); // 연속 배신 횟수
     private final int FORGIVENESS_THRESHOLD = 5; // 5번 연속 배신 시 화해 시도
 
+    // 상대별 상태
+    private static final class State {
+        int consecutiveDefects; // 연속 배신 횟수
+    }
+
+    @Override
+    public Object newPairState() {
+        return new State();
+    }
+
     @Override
-    public boolean choose(Player self, Player opponent, List<Boolean> opponentHistory) {
+    public boolean choose(Player self, Player opponent, PairHistory opponentHistory) {
+        State state = opponentHistory.state();
         int roundsPlayed = opponentHistory.size();
 
         // 상대방 히스토리가 없으면 기본적으로 협력 (첫 턴)
@@ -51,16 +58,15 @@ public class PeacefulTitForTat implements Strategy {
         boolean opponentLastMove = opponentHistory.get(roundsPlayed - 1);
 
         // 연속 배신 횟수 체크
-        consecutiveDefects.putIfAbsent(opponent, 0);
         if (!opponentLastMove) { // 상대가 배신했다면
-            consecutiveDefects.put(opponent, consecutiveDefects.get(opponent) + 1);
+            state.consecutiveDefects++;
         } else { // 상대가 협력하면 연속 배신 횟수 리셋
-            consecutiveDefects.put(opponent, 0);
+            state.consecutiveDefects = 0;
         }
 
         // 만약 내가 5번 연속 배신했다면, 한 번 협력 시도
-        if (consecutiveDefects.get(opponent) >= FORGIVENESS_THRESHOLD) {
-            consecutiveDefects.put(opponent, 0); // 배신 카운트 리셋
+        if (state.consecutiveDefects >= FORGIVENESS_THRESHOLD) {
+            state.consecutiveDefects = 0; // 배신 카운트 리셋
             return true; // 화해의 손길!
         }
 
@@ -68,6 +74,17 @@ public class PeacefulTitForTat implements Strategy {
         return opponentLastMove;
     }
 
+    @Override
+    public long stateFingerprint(Player opponent, PairHistory opponentHistory) {
+        State state = opponentHistory.state();
+        return state.consecutiveDefects; // 연속 배신 횟수
+    }
+
+    @Override
+    public int historyDepth() {
+        return 1; // 직전 라운드만 사용
+    }
+
     @Override
     public Strategy cloneStrategy() {
         return new PeacefulTitForTat();
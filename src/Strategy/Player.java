@@ -1,55 +1,155 @@
 package Strategy;
-import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Arrays;
 
+// 스레드 한정: 한 게임의 Player와 그 전략, 대전 기록은 한 번에 한 스레드만 접근 (ThreadOwner)
 public class Player {
-    private final String name;
+    public static final double DEFAULT_NOISE = 0.01; // 기본 실행 노이즈: 의도한 행동이 뒤집힐 확률
+    private final int id; // 로스터 안의 고유 번호 (0부터 촘촘하게, 배열 인덱스로 사용)
+    private final String name; // 표시용
     private final Strategy strategy;
+    private final double noise; // 이 플레이어의 실행 노이즈 확률 (라운드마다 행동이 뒤집힐 확률)
     private int score = 0;
     private int battleCount = 1;
-    private final Map<Player, List<Boolean>> history = new ConcurrentHashMap<>(); // 상대별 기록 유지
+    // 병렬 실행 시 라운드 시작 시점의 점수 스냅샷 (다른 상대와의 대전 순서에 결과가 좌우되지 않도록)
+    private boolean epoch = false;
+    private int epochScore;
+    private int epochBattleCount;
+    private PairHistory[] histories = new PairHistory[0]; // 상대별 기록 유지 (양쪽 행동), 상대 id로 인덱싱
+    private final ThreadOwner owner = new ThreadOwner(); // 디버그 모드의 소유 스레드 검사
 
-    public Player(String name, Strategy strategy) {
+    public Player(int id, String name, Strategy strategy) {
+        this(id, name, strategy, DEFAULT_NOISE);
+    }
+
+    public Player(int id, String name, Strategy strategy, double noise) {
+        if (id < 0) {
+            throw new IllegalArgumentException("Player id: " + id);
+        }
+        if (!(noise >= 0.0 && noise < 1.0)) {
+            throw new IllegalArgumentException("Noise probability: " + noise);
+        }
+        this.id = id;
         this.name = name;
         this.strategy = strategy;
+        this.noise = noise;
     }
 
     public boolean makeMove(Player opponent) {
-        List<Boolean> opponentHistory = history.getOrDefault(opponent, new ArrayList<>());
-        return strategy.choose(this, opponent, opponentHistory); // 상대별 기록 전달
+        return strategy.choose(this, opponent, getHistory(opponent)); // 상대별 기록 전달
     }
 
     public void updateHistory(Player opponent, boolean myMove, boolean opponentMove) {
-        history.computeIfAbsent(opponent, k -> Collections.synchronizedList(new ArrayList<>())).add(opponentMove);
-    }    
+        getHistory(opponent).record(myMove, opponentMove);
+    }
+
+    public PairHistory getHistory(Player opponent) {
+        checkOwner();
+        int opponentId = opponent.id;
+        if (opponentId >= histories.length) {
+            reserveOpponents(opponentId + 1);
+        }
+        PairHistory history = histories[opponentId];
+        if (history == null) {
+            history = PairHistory.forStrategy(strategy);
+            history.confineTo(owner);
+            histories[opponentId] = history;
+        }
+        return history;
+    }
+
+    // id가 opponents 미만인 상대의 기록 자리를 미리 확보 (병렬 실행 전에 호출하면 실행 중 배열이 바뀌지 않음)
+    public void reserveOpponents(int opponents) {
+        checkOwner();
+        if (opponents > histories.length) {
+            histories = Arrays.copyOf(histories, opponents);
+        }
+    }
+
+    // 다음 게임을 위해 처음 상태로 되돌림: 점수, 전략의 내부 상태, 상대별 기록 (기록 객체와 배열은 재사용)
+    public void reset() {
+        checkOwner();
+        score = 0;
+        battleCount = 1;
+        epoch = false;
+        strategy.reset();
+        for (PairHistory history : histories) {
+            if (history != null) {
+                history.reset(strategy.newPairState());
+            }
+        }
+    }
 
     public int getScore() {
-        return score;
+        return epoch ? epochScore : score;
     }
 
     public int getBattleCount() {
-        return battleCount;
+        return epoch ? epochBattleCount : battleCount;
+    }
+
+    // 라운드 시작: 이번 라운드 동안 getScore()/getBattleCount()는 이 시점의 값을 반환
+    public void beginEpoch() {
+        checkOwner();
+        epochScore = score;
+        epochBattleCount = battleCount;
+        epoch = true;
+        strategy.beginEpoch();
+    }
+
+    public void endEpoch() {
+        checkOwner();
+        epoch = false;
+        strategy.endEpoch();
     }
 
     public void addScore(int points) {
+        checkOwner();
         this.score += points;
         battleCount++;
     }
 
+    // 여러 라운드의 점수를 한 번에 반영 (주기 건너뛰기)
+    public void addScore(int points, int battles) {
+        checkOwner();
+        this.score += points;
+        battleCount += battles;
+    }
+
+    private void checkOwner() {
+        if (ThreadOwner.DEBUG) {
+            owner.check();
+        }
+    }
+
+    // 다른 스레드가 이 플레이어를 이어받을 수 있도록 소유를 풀어줌 (Game이 넘겨주는 지점에서 호출)
+    public void releaseOwner() {
+        if (ThreadOwner.DEBUG) {
+            owner.release();
+        }
+    }
+
+    public int getId() {
+        return id;
+    }
+
     public String getName() {
         return name;
     }
 
+    public double getNoise() {
+        return noise;
+    }
+
     public Strategy getStrategy() {
         return this.strategy;
     }
 
     public boolean getMyLastHistory(Player opponent) {
-        return history.get(opponent).get(history.get(opponent).size() - 1);
+        return histories[opponent.id].lastOpponentMove(); // 기존 구현과 같이 상대 기록의 마지막 값
     }
 
     public Player cloneWithNewStrategy() {
-        return new Player(this.name, this.strategy.cloneStrategy());  
+        return new Player(this.id, this.name, this.strategy.cloneStrategy(), this.noise); // 같은 id, 노이즈 유지
     }
 
     @Override
@@ -57,11 +157,11 @@ public class Player {
         if (this == obj) return true;
         if (obj == null || getClass() != obj.getClass()) return false;
         Player player = (Player) obj;
-        return Objects.equals(name, player.name);  // 이름이 같으면 같은 플레이어로 간주
+        return id == player.id;  // id가 같으면 같은 플레이어로 간주 (복제본 포함)
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(name);  // 이름 기반으로 해시코드 생성
+        return id;  // id가 곧 해시코드 (이름은 표시용)
     }
 }
\ No newline at end of file
@@ -1,10 +1,5 @@
 package Strategy;
 
-import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
-
 /**
  * 전략 이름: Predator  
  * 전략 유형: 배신형, 상황적 협력형 (강자를 피하고 약자를 사냥하는 포식자)  
@@ -35,31 +30,24 @@ import java.util.concurrent.CopyOnWriteArrayList;
  */
 
 public class Predator implements Strategy {
-    private final Map<Player, List<Boolean>> opponentHistories = new ConcurrentHashMap<>(); // 안전한 기록 저장
-    private final Map<Player, Boolean> isCooperatorMap = new ConcurrentHashMap<>(); // 협력가 여부 저장
-
     @Override
-    public boolean choose(Player self, Player opponent, List<Boolean> opponentHistory) {
-        // 안전한 리스트 관리
-        opponentHistories.putIfAbsent(opponent, new CopyOnWriteArrayList<>(opponentHistory));
-        List<Boolean> history = opponentHistories.get(opponent);
-
+    public boolean choose(Player self, Player opponent, PairHistory opponentHistory) {
         // 첫 번째 턴은 무조건 배신(D)
-        if (history.isEmpty()) {
+        if (opponentHistory.isEmpty()) {
             return false;
         }
 
-        long betrayals;
-        synchronized (history) {
-            betrayals = history.stream().filter(b -> !b).count();
-        }
-
-        boolean isCooperator = betrayals < history.size() * 0.2; // 80% 이상 협력하면 순수 협력가로 간주
-        isCooperatorMap.put(opponent, isCooperator);
+        long betrayals = opponentHistory.stats().opponentDefections();
 
-        return !isCooperatorMap.get(opponent); // 협력가면 계속 배신, 보복형이면 협력
+        boolean isCooperator = betrayals < opponentHistory.size() * 0.2; // 80% 이상 협력하면 순수 협력가로 간주
+        return !isCooperator; // 협력가면 계속 배신, 보복형이면 협력
     }
     
+    @Override
+    public int historyDepth() {
+        return 0; // 기록 없이 라운드 수와 누적 통계만 사용
+    }
+
     @Override
     public Strategy cloneStrategy() {
         return new Predator();
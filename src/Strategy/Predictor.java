@@ -1,9 +1,5 @@
 package Strategy;
 
-import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-
 /**
  * 전략 이름: Predictor  
  * 전략 유형: 협력형 + 보복형 (미래를 예측하는 분석가, 전략적 판단자)  
@@ -36,66 +32,65 @@ import java.util.concurrent.ConcurrentHashMap;
  */ 
 
 public class Predictor implements Strategy {
-    private final Map<Player, Integer> opponentCoopCount = new ConcurrentHashMap<>(); // 협력 횟수
-    private final Map<Player, Integer> opponentDefectCount = new ConcurrentHashMap<>(); // 배신 횟수
-    private final Map<Player, Integer> totalRounds = new ConcurrentHashMap<>(); // 전체 라운드 수
-    private final Map<Player, Integer> whenICoopTheyCoop = new ConcurrentHashMap<>(); // 내가 협력했을 때 상대도 협력한 횟수
-    private final Map<Player, Integer> whenIDefectTheyCoop = new ConcurrentHashMap<>(); // 내가 배신했을 때 상대가 협력한 횟수
-    private final Map<Player, Integer> whenICoopTheyDefect = new ConcurrentHashMap<>(); // 내가 협력했을 때 상대가 배신한 횟수
-    private final Map<Player, Integer> whenIDefectTheyDefect = new ConcurrentHashMap<>(); // 내가 배신했을 때 상대도 배신한 횟수
+    // 상대별 상태
+    private static final class State {
+        int opponentCoopCount;     // 협력 횟수
+        int opponentDefectCount;   // 배신 횟수
+        int totalRounds;           // 전체 라운드 수
+        int whenICoopTheyCoop;     // 내가 협력했을 때 상대도 협력한 횟수
+        int whenIDefectTheyCoop;   // 내가 배신했을 때 상대가 협력한 횟수
+        int whenICoopTheyDefect;   // 내가 협력했을 때 상대가 배신한 횟수
+        int whenIDefectTheyDefect; // 내가 배신했을 때 상대도 배신한 횟수
+    }
+
+    @Override
+    public Object newPairState() {
+        return new State();
+    }
 
     @Override
-    public boolean choose(Player self, Player opponent, List<Boolean> opponentHistory) {
-        totalRounds.put(opponent, totalRounds.getOrDefault(opponent, 0) + 1);
-        int rounds = totalRounds.get(opponent);
+    public boolean choose(Player self, Player opponent, PairHistory opponentHistory) {
+        State state = opponentHistory.state();
+        int rounds = ++state.totalRounds;
 
         // 첫 5라운드는 데이터 수집을 위해 기본적으로 협력
         if (rounds <= 5) {
             return true;
         }
 
-        // computeIfAbsent로 안전하게 값 초기화
-        opponentCoopCount.computeIfAbsent(opponent, k -> 0);
-        opponentDefectCount.computeIfAbsent(opponent, k -> 0);
-        whenICoopTheyCoop.computeIfAbsent(opponent, k -> 0);
-        whenICoopTheyDefect.computeIfAbsent(opponent, k -> 0);
-        whenIDefectTheyCoop.computeIfAbsent(opponent, k -> 0);
-        whenIDefectTheyDefect.computeIfAbsent(opponent, k -> 0);
-
         // 상대의 협력/배신 패턴 기록
         boolean lastMove = opponentHistory.get(opponentHistory.size() - 1);
         if (lastMove) {
-            opponentCoopCount.put(opponent, opponentCoopCount.get(opponent) + 1);
+            state.opponentCoopCount++;
         } else {
-            opponentDefectCount.put(opponent, opponentDefectCount.get(opponent) + 1);
+            state.opponentDefectCount++;
         }
 
-        // 내가 지난 턴에 무엇을 했는지 분석
-        boolean myLastMove = rounds > 1 && opponentHistory.size() >= 2 
-            ? Boolean.TRUE.equals(opponentHistory.get(opponentHistory.size() - 2))
-            : true;
+        // 내가 지난 턴에 무엇을 했는지 분석 (기존 구현과 같이 상대 기록의 끝에서 두 번째 값을 읽음)
+        int size = opponentHistory.size();
+        boolean myLastMove = size >= 2 ? opponentHistory.opponentMove(size - 2) : true;
 
 
         if (myLastMove && lastMove) {
-            whenICoopTheyCoop.put(opponent, whenICoopTheyCoop.get(opponent) + 1);
+            state.whenICoopTheyCoop++;
         } else if (myLastMove && !lastMove) {
-            whenICoopTheyDefect.put(opponent, whenICoopTheyDefect.get(opponent) + 1);
+            state.whenICoopTheyDefect++;
         } else if (!myLastMove && lastMove) {
-            whenIDefectTheyCoop.put(opponent, whenIDefectTheyCoop.get(opponent) + 1);
+            state.whenIDefectTheyCoop++;
         } else {
-            whenIDefectTheyDefect.put(opponent, whenIDefectTheyDefect.get(opponent) + 1);
+            state.whenIDefectTheyDefect++;
         }
 
         // 협력 확률 계산
         double totalInteractions = (double) rounds;
-        double coopRate = opponentCoopCount.get(opponent) / totalInteractions;
-        double defectRate = opponentDefectCount.get(opponent) / totalInteractions;
+        double coopRate = state.opponentCoopCount / totalInteractions;
+        double defectRate = state.opponentDefectCount / totalInteractions;
 
-        double whenICoopDefectRate = whenICoopTheyDefect.get(opponent) /
-                (double) Math.max(1, whenICoopTheyCoop.get(opponent) + whenICoopTheyDefect.get(opponent));
+        double whenICoopDefectRate = state.whenICoopTheyDefect /
+                (double) Math.max(1, state.whenICoopTheyCoop + state.whenICoopTheyDefect);
 
-        double whenIDefectDefectRate = whenIDefectTheyDefect.get(opponent) /
-                (double) Math.max(1, whenIDefectTheyCoop.get(opponent) + whenIDefectTheyDefect.get(opponent));
+        double whenIDefectDefectRate = state.whenIDefectTheyDefect /
+                (double) Math.max(1, state.whenIDefectTheyCoop + state.whenIDefectTheyDefect);
 
         // 상대가 내 협력에 대해 배신할 확률이 70% 이상이면 배신
         if (whenICoopDefectRate > 0.7) {
@@ -111,6 +106,11 @@ public class Predictor implements Strategy {
         return coopRate > defectRate;
     }
 
+    @Override
+    public int historyDepth() {
+        return 2; // 최근 2라운드 사용
+    }
+
     @Override
     public Strategy cloneStrategy() {
         return new Predictor();
@@ -1,11 +1,5 @@
 package Strategy;
 
-import java.util.List;
-import java.util.Map;
-import java.util.Random;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
-
 /**
  * 전략 이름: ProbabilisticTitForTat  
  * 전략 유형: 보복형 + 랜덤형 (변덕스러운 확률적 대응자, 적응형 분석가)  
@@ -36,31 +30,26 @@ import java.util.concurrent.CopyOnWriteArrayList;
  */
 
 public class ProbabilisticTitForTat implements Strategy {
-    private final Random random = new Random(); // 확률 기반 행동 결정을 위한 랜덤 객체
-    private final Map<Player, List<Boolean>> opponentHistories = new ConcurrentHashMap<>(); // 안전한 기록 저장
 
     @Override
-    public boolean choose(Player self, Player opponent, List<Boolean> opponentHistory) {
-        // 리스트를 안전하게 저장하기 위해 CopyOnWriteArrayList 사용
-        opponentHistories.putIfAbsent(opponent, new CopyOnWriteArrayList<>(opponentHistory));
-        List<Boolean> history = opponentHistories.get(opponent);
-
+    public boolean choose(Player self, Player opponent, PairHistory opponentHistory) {
         // 첫 번째 라운드는 기본적으로 협력(C)
-        if (history.isEmpty()) {
+        if (opponentHistory.isEmpty()) {
             return true;
         }
 
-        // 동기화된 블록에서 안전하게 접근
-        double cooperationRate;
-        synchronized (history) {
-            long cooperationCount = history.stream().filter(b -> b).count();
-            cooperationRate = (double) cooperationCount / history.size();
-        }
+        // 누적 통계에서 협력 비율 조회
+        double cooperationRate = opponentHistory.stats().opponentCooperationRate();
 
         // 상대의 협력 비율만큼 확률적으로 협력(C)
-        return random.nextDouble() < cooperationRate;
+        return opponentHistory.random().nextDouble() < cooperationRate;
     }
     
+    @Override
+    public int historyDepth() {
+        return 0; // 기록 없이 라운드 수와 누적 통계만 사용
+    }
+
     @Override
     public Strategy cloneStrategy() {
         return new ProbabilisticTitForTat();
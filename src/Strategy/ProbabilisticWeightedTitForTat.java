@@ -1,11 +1,5 @@
 package Strategy;
 
-import java.util.List;
-import java.util.Map;
-import java.util.Random;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
-
 /**
  * 전략 이름: ProbabilisticWeightedTitForTat  
  * 전략 유형: 보복형 + 확률형 (최근 행동 중심의 확률적 대응자)
@@ -39,51 +33,52 @@ import java.util.concurrent.CopyOnWriteArrayList;
  */
 
 public class ProbabilisticWeightedTitForTat implements Strategy {
-    private final Random random = new Random(); // 확률 기반 행동 결정을 위한 랜덤 객체
-    private final Map<Player, List<Boolean>> opponentHistories = new ConcurrentHashMap<>(); // 상대별 기록 저장
 
     @Override
-    public boolean choose(Player self, Player opponent, List<Boolean> opponentHistory) {
-        // 상대의 기록이 없으면 새로 생성하여 저장
-        opponentHistories.putIfAbsent(opponent, new CopyOnWriteArrayList<>(opponentHistory));
-        List<Boolean> history = opponentHistories.get(opponent);
-
+    public boolean choose(Player self, Player opponent, PairHistory opponentHistory) {
         // 첫 번째 라운드는 기본적으로 협력(C)
-        if (history.isEmpty()) {
+        if (opponentHistory.isEmpty()) {
             return true;
         }
 
-        int size = history.size();
+        int size = opponentHistory.size();
         double weightedSum = 0.0;
         double totalWeight = 0.0;
+        int recentCooperations = 0;
 
         // 최근 5개의 행동에 대한 가중치
         double[] weights = {0.25, 0.20, 0.15, 0.10, 0.05};
 
         // 최근 행동부터 거꾸로 계산 (최대 5개까지)
         for (int i = 0; i < Math.min(5, size); i++) {
-            boolean action = history.get(size - 1 - i);
+            boolean action = opponentHistory.opponentMove(size - 1 - i);
             double weight = weights[i];
             totalWeight += weight;
-            if (action) weightedSum += weight;
+            if (action) {
+                weightedSum += weight;
+                recentCooperations++;
+            }
         }
 
-        // 나머지 오래된 행동들에 대한 가중치 계산
+        // 나머지 오래된 행동들에 대한 가중치 계산 (모두 같은 가중치이므로 협력 횟수만 있으면 됨)
         if (size > 5) {
             double remainingWeight = 1.0 - totalWeight; // 남은 25%
             double oldWeight = remainingWeight / (size - 5); // 남은 행동들의 평균 가중치
-            for (int i = 5; i < size; i++) {
-                boolean action = history.get(size - 1 - i);
-                totalWeight += oldWeight;
-                if (action) weightedSum += oldWeight;
-            }
+            int oldCooperations = opponentHistory.stats().opponentCooperations() - recentCooperations;
+            totalWeight += remainingWeight;
+            weightedSum += oldWeight * oldCooperations;
         }
 
         // 최종 협력 확률 계산
         double cooperationProbability = weightedSum / totalWeight;
 
         // 확률적으로 협력 or 배신 결정
-        return random.nextDouble() < cooperationProbability;
+        return opponentHistory.random().nextDouble() < cooperationProbability;
+    }
+
+    @Override
+    public int historyDepth() {
+        return 5; // 최근 5라운드 + 누적 통계 사용
     }
 
     @Override
@@ -1,8 +1,5 @@
 package Strategy;
 
-import java.util.List;
-import java.util.Random;
-
 /**
  * 전략 이름: RandomStrategy  
  * 전략 유형: 랜덤형 (예측 불가능한 광인, 무작위적 혼돈의 창조자)
@@ -34,12 +31,23 @@ import java.util.Random;
  */ 
 
 public class RandomStrategy implements Strategy {
-    private final Random random = new Random();
+    // 항상 50% 확률로 협력
+    private static final Machine MACHINE = Machine.memoryOne(0.5, 0.5, 0.5, 0.5, 0.5);
 
     @Override
-    public boolean choose(Player self, Player opponent, List<Boolean> opponentHistory) {
+    public boolean choose(Player self, Player opponent, PairHistory opponentHistory) {
         // 무조건 50% 확률로 협력(C) 또는 배신(D)
-        return random.nextBoolean();
+        return opponentHistory.random().nextBoolean();
+    }
+
+    @Override
+    public Machine machine() {
+        return MACHINE; // 기대 점수 계산용 (확률적 기계)
+    }
+
+    @Override
+    public int historyDepth() {
+        return 0; // 기록 없이 라운드 수와 누적 통계만 사용
     }
 
     @Override
@@ -1,9 +1,5 @@
 package Strategy;
 
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-
 /**
  * 전략 이름: ReverseGrimTrigger  
  * 전략 유형: 협력형 (기회주의적 신뢰자, 반전된 Grim Trigger)
@@ -35,28 +31,52 @@ import java.util.Map;
  */
 
 public class ReverseGrimTrigger implements Strategy {
+    // 0: 배신, 1: 협력 (흡수 상태)
+    private static final Machine MACHINE = Machine.onOpponent(new boolean[] {false, true}, new int[] {1, 1}, new int[] {0, 1});
+
     // 상대별로 협력 모드 여부를 저장 (true = 무한 협력, false = 기본 배신)
-    private final Map<Player, Boolean> alwaysCooperate = new HashMap<>();
+    private static final class State {
+        boolean alwaysCooperate;
+    }
+
+    @Override
+    public Object newPairState() {
+        return new State();
+    }
 
     @Override
-    public boolean choose(Player self, Player opponent, List<Boolean> opponentHistory) {
+    public boolean choose(Player self, Player opponent, PairHistory opponentHistory) {
+        State state = opponentHistory.state();
         // 만약 특정 상대와 이미 무한 협력 모드라면 계속 협력
-        if (alwaysCooperate.getOrDefault(opponent, false)) {
+        if (state.alwaysCooperate) {
             return true;
         }
 
         // 상대의 행동 히스토리를 확인
-        for (boolean move : opponentHistory) {
-            if (move) { // 상대가 한 번이라도 협력(C)한 경우
-                alwaysCooperate.put(opponent, true); // 무한 협력 모드로 전환
-                return true;
-            }
+        if (opponentHistory.stats().opponentEverCooperated()) { // 상대가 한 번이라도 협력(C)한 경우
+            state.alwaysCooperate = true; // 무한 협력 모드로 전환
+            return true;
         }
 
         // 기본적으로 배신(D)
         return false;
     }
 
+    @Override
+    public long stateFingerprint(Player opponent, PairHistory opponentHistory) {
+        return opponentHistory.stats().opponentEverCooperated() ? 1 : 0;
+    }
+
+    @Override
+    public Machine machine() {
+        return MACHINE;
+    }
+
+    @Override
+    public int historyDepth() {
+        return 0; // 기록 없이 라운드 수와 누적 통계만 사용
+    }
+
     @Override
     public Strategy cloneStrategy() {
         return new ReverseGrimTrigger();
@@ -1,5 +1,4 @@
 package Strategy;
-import java.util.List;
 
 /**
  * 전략 이름: RobinHood  
@@ -34,15 +33,30 @@ import java.util.List;
 
 public class RobinHood implements Strategy {
     @Override
-    public boolean choose(Player self, Player opponent, List<Boolean> opponentHistory) {
+    public boolean choose(Player self, Player opponent, PairHistory opponentHistory) {
         double myScore = (double) self.getScore() / self.getBattleCount();
         double opponentScore = (double) opponent.getScore() / opponent.getBattleCount();
 
         return myScore >= opponentScore;  // 내가 높거나 같으면 협력, 내가 낮으면 배신
     }
 
+    @Override
+    public int historyDepth() {
+        return 0; // 기록 없이 라운드 수와 누적 통계만 사용
+    }
+
+    @Override
+    public boolean readsOpponentScore() {
+        return true; // 상대의 평균 점수와 비교
+    }
+
+    @Override
+    public boolean isPairLocal() {
+        return false; // 자신과 상대의 누적 평균 점수 비교
+    }
+
     @Override
     public Strategy cloneStrategy() {
-        return new RobinHood();
+        return this; // 내부 상태가 없으므로 복제하지 않고 모든 게임이 한 인스턴스를 공유 (flyweight)
     }
 }
\ No newline at end of file
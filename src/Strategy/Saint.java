@@ -1,6 +1,4 @@
 package Strategy;
-import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 전략 이름: Saint  
@@ -33,29 +31,49 @@ import java.util.concurrent.ConcurrentHashMap;
 */
 
 public class Saint implements Strategy {
-    private final ConcurrentHashMap<Player, Integer> betrayals = new ConcurrentHashMap<>();
     private final int TOLERANCE = 10; // 배신을 10번까지는 참음
 
+    // 상대별 상태
+    private static final class State {
+        int betrayals;
+    }
+
+    @Override
+    public Object newPairState() {
+        return new State();
+    }
+
     @Override
-    public boolean choose(Player self, Player opponent, List<Boolean> opponentHistory) {
-        betrayals.putIfAbsent(opponent, 0);
+    public boolean choose(Player self, Player opponent, PairHistory opponentHistory) {
+        State state = opponentHistory.state();
 
         if (opponentHistory.isEmpty()) {
             return true; // 처음엔 무조건 협력
         }
 
         if (!opponentHistory.get(opponentHistory.size() - 1)) {
-            betrayals.put(opponent, betrayals.get(opponent) + 1);
+            state.betrayals++;
         }
 
         // 상대가 10번 이상 배신했으면 Tit-for-Tat 모드 돌입
-        if (betrayals.get(opponent) >= TOLERANCE) {
+        if (state.betrayals >= TOLERANCE) {
             return opponentHistory.get(opponentHistory.size() - 1);
         }
 
         return true; // 평소에는 무조건 협력
     }
 
+    @Override
+    public long stateFingerprint(Player opponent, PairHistory opponentHistory) {
+        State state = opponentHistory.state();
+        return Math.min(state.betrayals, TOLERANCE); // 인내 한도까지만 구분
+    }
+
+    @Override
+    public int historyDepth() {
+        return 1; // 직전 라운드만 사용
+    }
+
     @Override
     public Strategy cloneStrategy() {
         return new Saint();
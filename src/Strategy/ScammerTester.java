@@ -1,9 +1,5 @@
 package Strategy;
 
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-
 /**
  * 전략 이름: ScammerTester  
  * 전략 유형: 착취형 + 보복형 (직관적 사기꾼, 빠른 적응형 분석가)
@@ -42,15 +38,23 @@ import java.util.Map;
 */  
 
 public class ScammerTester implements Strategy {
-    private final Map<Player, Boolean> switchedToTitForTat = new HashMap<>(); // 상대별 팃포탯 전환 여부
-    private final Map<Player, Boolean> alternatingMode = new HashMap<>(); // 상대별 협력/배신 반복 모드
-    private final Map<Player, Integer> roundCount = new HashMap<>(); // 상대별 라운드 번호
+    // 상대별 상태
+    private static final class State {
+        boolean switchedToTitForTat; // 팃포탯 전환 여부
+        boolean alternatingMode;     // 협력/배신 반복 모드
+        int roundCount;              // 라운드 번호
+    }
+
+    @Override
+    public Object newPairState() {
+        return new State();
+    }
 
     @Override
-    public boolean choose(Player self, Player opponent, List<Boolean> opponentHistory) {
+    public boolean choose(Player self, Player opponent, PairHistory opponentHistory) {
+        State state = opponentHistory.state();
         // 상대방과의 라운드 진행 횟수 증가
-        int currentRound = roundCount.getOrDefault(opponent, 0) + 1;
-        roundCount.put(opponent, currentRound);
+        int currentRound = ++state.roundCount;
 
         // 첫 라운드에서는 무조건 배신(D)
         if (opponentHistory.isEmpty()) {
@@ -59,21 +63,21 @@ public class ScammerTester implements Strategy {
 
         // 2라운드에서 상대가 보복(배신)했다면, 팃포탯 모드로 전환
         if (currentRound == 2 && !opponentHistory.get(opponentHistory.size() - 1)) {
-            switchedToTitForTat.put(opponent, true);
+            state.switchedToTitForTat = true;
         }
 
         // 팃포탯 모드일 경우 상대의 마지막 행동을 따라감
-        if (switchedToTitForTat.getOrDefault(opponent, false)) {
+        if (state.switchedToTitForTat) {
             return opponentHistory.get(opponentHistory.size() - 1);
         }
 
         // 2라운드에서 상대가 협력했다면 협력/배신 반복 모드로 전환
         if (currentRound == 2 && opponentHistory.get(opponentHistory.size() - 1)) {
-            alternatingMode.put(opponent, true);
+            state.alternatingMode = true;
         }
 
         // 협력/배신 반복 모드 (짝수 라운드에서는 협력, 홀수 라운드에서는 배신)
-        if (alternatingMode.getOrDefault(opponent, false)) {
+        if (state.alternatingMode) {
             return currentRound % 2 == 0;
         }
 
@@ -81,6 +85,11 @@ public class ScammerTester implements Strategy {
         return false;
     }
 
+    @Override
+    public int historyDepth() {
+        return 1; // 직전 라운드만 사용
+    }
+
     @Override
     public Strategy cloneStrategy() {
         return new ScammerTester();
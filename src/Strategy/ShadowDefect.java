@@ -1,10 +1,5 @@
 package Strategy;
 
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.Random;
-
 /**
  * 전략 이름: ShadowDefect  
  * 전략 유형: 착취형 + 보복형 (그림자 속의 배신자, 신뢰를 시험하는 교활한 적응자)
@@ -39,22 +34,30 @@ import java.util.Random;
 */ 
 
 public class ShadowDefect implements Strategy {
-    private final Map<Player, Integer> opponentCooperationCount = new HashMap<>(); // 협력 횟수 기록
-    private final Map<Player, Integer> totalRounds = new HashMap<>(); // 총 경기 수 기록
-    private final Random random = new Random();
+
+    // 상대별 상태
+    private static final class State {
+        int opponentCooperationCount; // 협력 횟수 기록
+        int totalRounds;              // 총 경기 수 기록
+    }
 
     @Override
-    public boolean choose(Player self, Player opponent, List<Boolean> opponentHistory) {
-        totalRounds.put(opponent, totalRounds.getOrDefault(opponent, 0) + 1);
-        int rounds = totalRounds.get(opponent);
+    public Object newPairState() {
+        return new State();
+    }
+
+    @Override
+    public boolean choose(Player self, Player opponent, PairHistory opponentHistory) {
+        State state = opponentHistory.state();
+        int rounds = ++state.totalRounds;
         
         // 상대의 협력 횟수를 먼저 업데이트
         if (!opponentHistory.isEmpty() && opponentHistory.get(opponentHistory.size() - 1)) {
-            opponentCooperationCount.put(opponent, opponentCooperationCount.getOrDefault(opponent, 0) + 1);
+            state.opponentCooperationCount++;
         }
 
         // 상대의 협력 비율 계산
-        int cooperationCount = opponentCooperationCount.getOrDefault(opponent, 0);
+        int cooperationCount = state.opponentCooperationCount;
         double cooperationRate = (double) cooperationCount / rounds;
 
         // 첫 5라운드는 무조건 협력(C) -> 상대가 방심하게 만들기
@@ -65,18 +68,23 @@ public class ShadowDefect implements Strategy {
         // 배신 타이밍 조정 (더 예측 불가능하게)
         if (cooperationRate > 0.75) {
             // 상대가 협력 비율이 높다면 20~50% 확률로 배신
-            return random.nextDouble() > 0.3; 
+            return opponentHistory.random().nextDouble() > 0.3; 
         } 
         else if (cooperationRate < 0.4) {
             // 상대가 원래 배신을 많이 하면 맞배신하되, 가끔은 협력할 수도 있음 (20% 확률 협력)
-            return random.nextDouble() < 0.2;
+            return opponentHistory.random().nextDouble() < 0.2;
         } 
         else {
             // 기본적으로 협력 유지하되, 10라운드마다 30% 확률로 배신
-            return rounds % 10 == 0 ? random.nextDouble() > 0.7 : true;
+            return rounds % 10 == 0 ? opponentHistory.random().nextDouble() > 0.7 : true;
         }
     }
 
+    @Override
+    public int historyDepth() {
+        return 1; // 직전 라운드만 사용
+    }
+
     @Override
     public Strategy cloneStrategy() {
         return new ShadowDefect();
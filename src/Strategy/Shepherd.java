@@ -1,7 +1,6 @@
 package Strategy;
 
-import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Arrays;
 
 /**
  * 전략 이름: Shepherd  
@@ -38,10 +37,21 @@ import java.util.concurrent.ConcurrentHashMap;
 */ 
 
 public class Shepherd implements Strategy {
-    private final Map<Player, Integer> betrayalCount = new ConcurrentHashMap<>(); // 상대가 배신했을 때 복수 카운트
-    
+    private static final BitSliced SLICED = new Sliced();
+
+    // 상대별 상태
+    private static final class State {
+        int betrayalCount; // 상대가 배신했을 때 복수 카운트
+    }
+
     @Override
-    public boolean choose(Player self, Player opponent, List<Boolean> opponentHistory) {
+    public Object newPairState() {
+        return new State();
+    }
+
+    @Override
+    public boolean choose(Player self, Player opponent, PairHistory opponentHistory) {
+        State state = opponentHistory.state();
         // 만약 상대와 처음 만나는 거라면 기본적으로 협력
         if (opponentHistory.isEmpty()) {
             return true;
@@ -52,12 +62,12 @@ public class Shepherd implements Strategy {
         
         // 상대가 배신했다면 복수 카운트를 2 증가
         if (!opponentLastMove) {
-            betrayalCount.put(opponent, betrayalCount.getOrDefault(opponent, 0) + 2);
+            state.betrayalCount += 2;
         }
         
         // 현재 복수 중이라면 배신 (복수 카운트를 줄여가면서)
-        if (betrayalCount.getOrDefault(opponent, 0) > 0) {
-            betrayalCount.put(opponent, betrayalCount.get(opponent) - 1);
+        if (state.betrayalCount > 0) {
+            state.betrayalCount--;
             return false; // 배신
         }
         
@@ -65,8 +75,80 @@ public class Shepherd implements Strategy {
         return true;
     }
 
+    @Override
+    public long stateFingerprint(Player opponent, PairHistory opponentHistory) {
+        State state = opponentHistory.state();
+        return state.betrayalCount; // 남은 복수 카운트
+    }
+
+    @Override
+    public BatchChoice newBatchChoice(int opponents) {
+        return new Batch(opponents);
+    }
+
+    @Override
+    public BitSliced bitSliced() {
+        return SLICED; // 복수 카운트를 비트 평면으로
+    }
+
+    @Override
+    public int historyDepth() {
+        return 1; // 직전 라운드만 사용
+    }
+
     @Override
     public Strategy cloneStrategy() {
         return new Shepherd();
     }
+
+    // 라운드 단위 일괄 결정: counts[k] = 상대 k에 대한 복수 카운트 (choose()의 State.betrayalCount와 같은 갱신)
+    private static final class Batch implements BatchChoice {
+        private final int[] counts;
+
+        Batch(int opponents) {
+            this.counts = new int[opponents];
+        }
+
+        @Override
+        public void chooseAll(int round, boolean[] lastMyMoves, boolean[] lastOpponentMoves, boolean[] decisions) {
+            if (round == 1) {
+                Arrays.fill(decisions, 0, counts.length, true); // 처음에는 협력
+                return;
+            }
+            for (int k = 0; k < counts.length; k++) {
+                int count = lastOpponentMoves[k] ? counts[k] : counts[k] + 2;
+                boolean revenge = count > 0;
+                counts[k] = revenge ? count - 1 : count;
+                decisions[k] = !revenge;
+            }
+        }
+    }
+
+    // 64게임 일괄 실행용: 마지막 평면 = 다음 라운드에 배신할 레인, 나머지 = 레인별 복수 카운트
+    // choose()가 다음 라운드 시작에 하는 계산(카운트 +2, 복수 중이면 -1)을 update()에서 미리 함
+    private static final class Sliced implements BitSliced {
+        @Override
+        public int planes(int rounds) {
+            return 1 + BitSliced.counterPlanes(rounds);
+        }
+
+        @Override
+        public void init(long[] state) {
+        }
+
+        @Override
+        public long cooperate(long[] state) {
+            return ~state[state.length - 1];
+        }
+
+        @Override
+        public void update(long[] state, long myMoves, long opponentMoves) {
+            int width = state.length - 1;
+            BitSliced.increment(state, width, ~opponentMoves);
+            BitSliced.increment(state, width, ~opponentMoves);
+            long revenge = BitSliced.nonZero(state, width);
+            BitSliced.decrement(state, width, revenge);
+            state[width] = revenge;
+        }
+    }
 }
\ No newline at end of file
@@ -1,10 +1,5 @@
 package Strategy;
 
-import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
-
 /**
  * 전략 이름: SlowTitForTat (STFT2)  
  * 전략 유형: 보복형 + 협력형 (느리게 반응하는 신중한 대응자)
@@ -37,44 +32,40 @@ import java.util.concurrent.CopyOnWriteArrayList;
 */ 
 
 public class SlowTitForTat implements Strategy {
-    private final Map<Player, List<Boolean>> opponentHistories = new ConcurrentHashMap<>(); // 상대 기록 저장
-    private final Map<Player, List<Boolean>> selfHistories = new ConcurrentHashMap<>(); // 본인의 기록 저장
 
     @Override
-    public boolean choose(Player self, Player opponent, List<Boolean> opponentHistory) {
-        // 상대 기록 관리
-        opponentHistories.putIfAbsent(opponent, new CopyOnWriteArrayList<>(opponentHistory));
-        List<Boolean> history = opponentHistories.get(opponent);
-
-        // 본인의 기록도 관리
-        selfHistories.putIfAbsent(opponent, new CopyOnWriteArrayList<>());
-        List<Boolean> selfHistory = selfHistories.get(opponent);
-
+    public boolean choose(Player self, Player opponent, PairHistory opponentHistory) {
         // 첫 두 라운드는 무조건 협력(C)
-        if (history.size() < 2) {
-            selfHistory.add(true);
+        if (opponentHistory.size() < 2) {
             return true;
         }
 
         // 상대의 마지막 두 행동 가져오기
-        int historySize = history.size();
-        boolean lastMove = history.get(historySize - 1);
-        boolean secondLastMove = history.get(historySize - 2);
+        int historySize = opponentHistory.size();
+        boolean lastMove = opponentHistory.opponentMove(historySize - 1);
+        boolean secondLastMove = opponentHistory.opponentMove(historySize - 2);
 
         // 상대가 최근 두 번 연속 같은 행동을 했으면, 그 행동을 따라감
         if (lastMove == secondLastMove) {
-            selfHistory.add(lastMove);
             return lastMove;
         }
 
         // 그렇지 않다면, 이전 라운드에서 자신이 했던 행동을 반복
-        boolean myLastMove = selfHistory.get(selfHistory.size() - 1);
-        selfHistory.add(myLastMove);
-        return myLastMove;
+        return opponentHistory.lastMyMove();
+    }
+
+    @Override
+    public long stateFingerprint(Player opponent, PairHistory opponentHistory) {
+        return 0; // 최근 2라운드만으로 결정
+    }
+
+    @Override
+    public int historyDepth() {
+        return 2; // 최근 2라운드 사용
     }
 
     @Override
     public Strategy cloneStrategy() {
         return new SlowTitForTat();
     }
-}
\ No newline at end of file
+}
@@ -1,10 +1,5 @@
 package Strategy;
 
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.Random;
-
 /**
  * 전략 이름: StereoType  
  * 전략 유형: 보복형 (선입견에 입각한 단순화 전략)
@@ -39,28 +34,42 @@ import java.util.Random;
  */
 
 public class StereoType implements Strategy {
-    private final Map<Player, Boolean> fixedResponse = new HashMap<>(); // 고정된 반응 (true = 협력, false = 배신)
-    private final Random random = new Random();
+
+    // 상대별 상태
+    private static final class State {
+        boolean fixedResponse; // 고정된 반응 (true = 협력, false = 배신)
+    }
 
     @Override
-    public boolean choose(Player self, Player opponent, List<Boolean> opponentHistory) {
+    public Object newPairState() {
+        return new State();
+    }
+
+    @Override
+    public boolean choose(Player self, Player opponent, PairHistory opponentHistory) {
+        State state = opponentHistory.state();
         int rounds = opponentHistory.size();
 
         // 첫 번째 라운드: 랜덤하게 행동 결정
         if (rounds == 0) {
-            boolean firstAction = random.nextBoolean(); // 랜덤하게 협력 또는 배신
+            boolean firstAction = opponentHistory.random().nextBoolean(); // 랜덤하게 협력 또는 배신
             return firstAction;
         }
 
         // 두 번째 라운드: 상대의 첫 반응을 보고 결정
         if (rounds == 1) {
             boolean opponentFirstAction = opponentHistory.get(0); // 상대의 첫 번째 행동
-            fixedResponse.put(opponent, opponentFirstAction); // 상대의 첫 반응을 저장
+            state.fixedResponse = opponentFirstAction; // 상대의 첫 반응을 저장
             return opponentFirstAction; // 이후 이 행동을 계속 유지
         }
 
         // 이후 모든 라운드에서는 상대의 첫 반응에 따라 고정된 행동 유지
-        return fixedResponse.get(opponent);
+        return state.fixedResponse;
+    }
+
+    @Override
+    public int historyDepth() {
+        return 1; // 직전 라운드만 사용
     }
 
     @Override
@@ -1,7 +1,85 @@
 package Strategy;
-import java.util.List;
 
 public interface Strategy {
-    boolean choose(Player self, Player opponent, List<Boolean> opponentHistory); // 상대별로 다른 행동 가능
-    Strategy cloneStrategy();
+    long NO_FINGERPRINT = Long.MIN_VALUE; // stateFingerprint()를 지원하지 않음
+
+    boolean choose(Player self, Player opponent, PairHistory opponentHistory); // 상대별로 다른 행동 가능
+    // 난수가 필요하면 opponentHistory.random()을 사용 (게임 시드에서 유도한 상대별 스트림이라 재현 가능)
+    Strategy cloneStrategy(); // 다른 게임에서 쓸 독립 인스턴스 (내부 상태가 없는 전략은 자신을 돌려줘 공유해도 됨)
+
+    // 상대별 내부 상태 객체 (상대 쌍마다 한 번 만들어 PairHistory에 보관, choose()에서 opponentHistory.state()로 조회)
+    // Map<Player, X> 대신 기본형 필드를 가진 작은 객체를 쓰므로 해시 조회와 박싱이 없음 (상태가 없으면 null)
+    default Object newPairState() {
+        return null;
+    }
+
+    // choose()가 읽는 최근 기록 라운드 수 (그 이전은 HistoryStats 누적 값만 사용)
+    // 전체 기록을 순회하는 전략은 기본값(UNBOUNDED)을 유지
+    default int historyDepth() {
+        return PairHistory.UNBOUNDED;
+    }
+
+    // 이 상대와의 기록만으로 행동을 정하는지 여부
+    // false: 다른 상대와의 대전 결과(점수, 전체 라운드 수, 여러 상대에 걸친 집계)에 따라 행동이 달라짐
+    // 모든 전략이 true면 Game이 상대 쌍 단위로 경기 전체를 몰아서 실행(pair-major)할 수 있음
+    default boolean isPairLocal() {
+        return true;
+    }
+
+    // 64게임을 비트 단위로 묶어 한 번에 진행하는 표현 (없으면 null, BatchEngine이 사용)
+    // 결정적 기계를 제공하는 전략은 자동으로 지원
+    default BitSliced bitSliced() {
+        Machine machine = machine();
+        return machine != null && machine.isDeterministic() ? BitSliced.of(machine) : null;
+    }
+
+    // 라운드 단위 실행에서 opponents명의 상대에 대한 행동을 한 번에 정하는 일괄 결정 (없으면 null, 게임마다 새로 만듦)
+    // 상대 쌍 내부 정보만 쓰는 전략(isPairLocal)만 제공할 수 있음 → Game이 라운드 시작 시점에 모든 상대의 행동을 미리 정함
+    default BatchChoice newBatchChoice(int opponents) {
+        return null;
+    }
+
+    // 상대 플레이어의 누적 점수(getScore/getBattleCount)를 읽는지 여부
+    // true인 전략이 있으면 일부 상대 쌍의 점수를 표본 대신 기댓값으로 채울 수 없음 (읽는 점수가 달라짐)
+    default boolean readsOpponentScore() {
+        return false;
+    }
+
+    // 이 상대에 대한 내부 상태 요약 (주기 탐지용, Game이 라운드 시작 전에 호출)
+    // - 최근 historyDepth() 라운드의 양쪽 행동과 이 값이 같으면, 이후의 선택도 항상 같아야 함
+    // - 즉, 그 범위 밖의 기록/통계나 상대별 내부 상태 중 선택에 영향을 주는 것을 모두 담아야 함
+    // - 난수를 쓰거나 라운드 번호에 따라 행동이 바뀌는 전략은 기본값(NO_FINGERPRINT) 유지
+    default long stateFingerprint(Player opponent, PairHistory opponentHistory) {
+        return NO_FINGERPRINT;
+    }
+
+    // 전략을 유한 상태 기계로 표현할 수 있으면 그 기계 (없으면 null)
+    // 두 전략이 모두 결정적 기계를 제공하면 Game이 choose() 대신 곱 오토마톤(ProductAutomaton)으로 진행
+    // 확률적 기계(기억 1단계 전략 등)는 기대 점수를 정확히 계산하는 데 사용 (MarkovEvaluator)
+    default Machine machine() {
+        return null;
+    }
+
+    // 대전 기록 통계(HistoryStats)의 슬라이딩 윈도우 크기
+    default int statsWindow() {
+        return HistoryStats.DEFAULT_WINDOW;
+    }
+
+    // 병렬 실행에서 라운드가 시작될 때 호출: 여러 상대에 걸친 집계는 이 시점의 스냅샷을 읽어야 함
+    default void beginEpoch() {
+    }
+
+    // 병렬 실행이 끝나면 호출: 이후에는 다시 최신 값을 읽음
+    default void endEpoch() {
+    }
+
+    // 다음 게임에 같은 인스턴스를 다시 쓰기 전에 호출 (Player.reset): 여러 상대에 걸친 내부 상태를 처음으로 되돌림
+    // 상대별 상태(newPairState)는 Player가 대전 기록과 함께 새로 만듦
+    default void reset() {
+    }
+
+    // 대전 기록 통계(HistoryStats)의 지수 감쇠율
+    default double statsDecay() {
+        return HistoryStats.DEFAULT_DECAY;
+    }
 }
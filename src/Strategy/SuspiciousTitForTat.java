@@ -1,7 +1,5 @@
 package Strategy;
 
-import java.util.List;
-
 /**
  * 전략 이름: SuspiciousTitForTat  
  * 전략 유형: 보복형 (경계심이 강한 의심쟁이, 신뢰를 테스트하는 현실주의자)
@@ -33,9 +31,11 @@ import java.util.List;
 */  
 
 public class SuspiciousTitForTat implements Strategy {
+    // 0: 배신(시작), 1: 협력 (이후 상대의 직전 행동)
+    private static final Machine MACHINE = Machine.onOpponent(new boolean[] {false, true}, new int[] {1, 1}, new int[] {0, 0});
 
     @Override
-    public boolean choose(Player self, Player opponent, List<Boolean> opponentHistory) {
+    public boolean choose(Player self, Player opponent, PairHistory opponentHistory) {
         // 상대방의 행동 기록이 비어 있다면 (즉, 첫 라운드라면) 무조건 배신(D) 선택
         if (opponentHistory.isEmpty()) {
             return false;
@@ -45,6 +45,21 @@ public class SuspiciousTitForTat implements Strategy {
         return opponentHistory.get(opponentHistory.size() - 1);
     }
     
+    @Override
+    public long stateFingerprint(Player opponent, PairHistory opponentHistory) {
+        return 0; // 직전 라운드만으로 결정
+    }
+
+    @Override
+    public Machine machine() {
+        return MACHINE;
+    }
+
+    @Override
+    public int historyDepth() {
+        return 1; // 직전 라운드만 사용
+    }
+
     @Override
     public Strategy cloneStrategy() {
         return new SuspiciousTitForTat();
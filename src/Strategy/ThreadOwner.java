@@ -0,0 +1,33 @@
+package Strategy;
+
+/**
+ * 게임 지역 객체의 스레드 한정(thread confinement) 규칙과 디버그 검사
+ *
+ * - 게임 하나의 Player / Strategy / PairHistory / 전략의 상대별 상태 객체는 한 번에 한 스레드만 접근함
+ *   → 동기화 블록이나 동시성 컬렉션 없이 일반 배열, 필드, 컬렉션을 사용
+ * - 소유 스레드는 바뀔 수 있지만, 넘겨주는 지점에 happens-before 관계가 있어야 함
+ *   (ExecutorService.submit → Future.get, ForkJoinPool.invoke 반환, Game의 병렬 실행 매칭 경계)
+ * - DEBUG가 true면 접근할 때마다 소유 스레드인지 확인하고, 다르면 IllegalStateException
+ *   처음 접근한 스레드가 소유자가 되고, 넘겨주는 쪽(Game)이 경계에서 release()로 소유를 풀어줌
+ * - DEBUG가 false면 검사 코드는 상수 조건으로 컴파일러가 제거함 (실행 비용 없음)
+ */
+public final class ThreadOwner {
+    public static final boolean DEBUG = false; // 테스트 시 true로 바꾸면 모든 접근의 소유 스레드 검사
+
+    private Thread owner;
+
+    // 현재 스레드가 소유자인지 확인 (소유자가 없으면 현재 스레드가 소유자가 됨)
+    public void check() {
+        Thread current = Thread.currentThread();
+        if (owner == null) {
+            owner = current;
+        } else if (owner != current) {
+            throw new IllegalStateException("Accessed from " + current.getName() + ", owned by " + owner.getName());
+        }
+    }
+
+    // 소유를 풀어 다음 스레드가 이어받을 수 있게 함 (넘겨주는 동기화 지점에서 호출)
+    public void release() {
+        owner = null;
+    }
+}
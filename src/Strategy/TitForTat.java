@@ -1,7 +1,5 @@
 package Strategy;
 
-import java.util.List;
-
 /**
  * 전략 이름: TitForTat  
  * 전략 유형: 보복형 + 협력형 (신뢰와 복수의 균형자, 가장 유명한 공정한 대응자)
@@ -33,9 +31,11 @@ import java.util.List;
 */
 
 public class TitForTat implements Strategy {
+    // 0: 협력, 1: 배신 (상대의 직전 행동)
+    private static final Machine MACHINE = Machine.onOpponent(new boolean[] {true, false}, new int[] {0, 0}, new int[] {1, 1});
 
     @Override
-    public boolean choose(Player self, Player opponent, List<Boolean> opponentHistory) {
+    public boolean choose(Player self, Player opponent, PairHistory opponentHistory) {
         // 첫 번째 라운드는 기본적으로 협력(C)
         if (opponentHistory.isEmpty()) {
             return true;
@@ -45,6 +45,21 @@ public class TitForTat implements Strategy {
         return opponentHistory.get(opponentHistory.size() - 1);
     }
     
+    @Override
+    public long stateFingerprint(Player opponent, PairHistory opponentHistory) {
+        return 0; // 직전 라운드만으로 결정
+    }
+
+    @Override
+    public Machine machine() {
+        return MACHINE;
+    }
+
+    @Override
+    public int historyDepth() {
+        return 1; // 직전 라운드만 사용
+    }
+
     @Override
     public Strategy cloneStrategy() {
         return new TitForTat();
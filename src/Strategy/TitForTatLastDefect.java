@@ -1,7 +1,5 @@
 package Strategy;
 
-import java.util.List;
-
 /**
  * 전략 이름: TitForTatLastDefect  
  * 전략 유형: 보복형 + 배신형 (협력하지만 마지막엔 이득을 취하는 현실주의자)
@@ -32,7 +30,7 @@ import java.util.List;
 public class TitForTatLastDefect implements Strategy {
 
     @Override
-    public boolean choose(Player self, Player opponent, List<Boolean> opponentHistory) {
+    public boolean choose(Player self, Player opponent, PairHistory opponentHistory) {
         // 마지막 라운드라면 무조건 배신(D)
         if (opponentHistory.size() >= 499) {
             return false;
@@ -47,6 +45,11 @@ public class TitForTatLastDefect implements Strategy {
         return opponentHistory.get(opponentHistory.size() - 1);
     }
 
+    @Override
+    public int historyDepth() {
+        return 1; // 직전 라운드만 사용
+    }
+
     @Override
     public Strategy cloneStrategy() {
         return new TitForTatLastDefect();
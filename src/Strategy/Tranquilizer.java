@@ -1,10 +1,5 @@
 package Strategy;
 
-import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
-
 /**
  * 전략 이름: Tranquilizer  
  * 전략 유형: 착취형 + 협력형 (조용히 다가와 배신하는 유혹자)  
@@ -39,39 +34,40 @@ import java.util.concurrent.CopyOnWriteArrayList;
 */
 
 public class Tranquilizer implements Strategy {
-    private final Map<Player, Boolean> betrayalPhase = new ConcurrentHashMap<>(); // 상대별 배신 모드 활성화 여부
-    private final Map<Player, Integer> betrayalCount = new ConcurrentHashMap<>(); // 상대별 배신 횟수
-    private final Map<Player, Integer> totalRounds = new ConcurrentHashMap<>(); // 상대별 총 게임 횟수
-    private final Map<Player, List<Boolean>> opponentHistories = new ConcurrentHashMap<>(); // 상대별 기록 저장
+    // 상대별 상태
+    private static final class State {
+        boolean betrayalPhase; // 배신 모드 활성화 여부
+        int betrayalCount;     // 배신 횟수
+        int totalRounds;       // 총 게임 횟수
+    }
 
     @Override
-    public boolean choose(Player self, Player opponent, List<Boolean> opponentHistory) {
-        // 리스트를 CopyOnWriteArrayList로 관리하여 동시 수정 방지
-        opponentHistories.putIfAbsent(opponent, new CopyOnWriteArrayList<>(opponentHistory));
-        List<Boolean> history = opponentHistories.get(opponent);
+    public Object newPairState() {
+        return new State();
+    }
 
-        // 상대와의 총 라운드 수 증가 (동기화된 업데이트)
-        totalRounds.compute(opponent, (k, v) -> (v == null) ? 1 : v + 1);
-        int rounds = totalRounds.get(opponent);
+    @Override
+    public boolean choose(Player self, Player opponent, PairHistory opponentHistory) {
+        State state = opponentHistory.state();
+        // 상대와의 총 라운드 수 증가
+        int rounds = ++state.totalRounds;
 
         // 첫 번째 라운드는 무조건 협력(C)
-        if (history.isEmpty()) {
+        if (opponentHistory.isEmpty()) {
             return true;
         }
 
-        // 상대의 협력 비율 계산
-        long cooperationCount = history.stream().filter(b -> b).count();
-        double cooperationRate = (double) cooperationCount / history.size();
+        // 상대의 협력 비율 계산 (누적 통계)
+        double cooperationRate = opponentHistory.stats().opponentCooperationRate();
 
         // 상대가 배신하면 즉시 보복(배신)하고 배신 모드 해제
-        if (!history.get(history.size() - 1)) {
-            betrayalPhase.put(opponent, false); // 배신 모드 해제
+        if (!opponentHistory.lastOpponentMove()) {
+            state.betrayalPhase = false; // 배신 모드 해제
             return false; // 즉시 응징 (배신)
         }
 
-        // 상대별 배신 횟수 가져오기 (Atomic 수정)
-        betrayalCount.putIfAbsent(opponent, 0);
-        double betrayalRate = (double) betrayalCount.get(opponent) / rounds;
+        // 상대별 배신 횟수 가져오기
+        double betrayalRate = (double) state.betrayalCount / rounds;
 
         // 배신 비율이 25%를 넘지 않도록 제한
         if (betrayalRate >= 0.25) {
@@ -79,18 +75,17 @@ public class Tranquilizer implements Strategy {
         }
 
         // 상대가 계속 협력하면 일정 시점에서 배신 모드 활성화
-        betrayalPhase.putIfAbsent(opponent, false);
-        if (!betrayalPhase.get(opponent) && cooperationRate > 0.8) {
-            betrayalPhase.put(opponent, true); // 배신 모드 활성화
+        if (!state.betrayalPhase && cooperationRate > 0.8) {
+            state.betrayalPhase = true; // 배신 모드 활성화
         }
 
         // 배신 모드에서는 점진적으로 배신 횟수를 증가시켜 착취
-        if (betrayalPhase.get(opponent)) {
-            if (betrayalCount.get(opponent) < rounds / 4) { // 배신 비율이 전체 게임의 1/4 이하로 유지
-                betrayalCount.compute(opponent, (k, v) -> v + 1); // Atomic 업데이트
+        if (state.betrayalPhase) {
+            if (state.betrayalCount < rounds / 4) { // 배신 비율이 전체 게임의 1/4 이하로 유지
+                state.betrayalCount++;
                 return false; // 배신
             } else {
-                betrayalPhase.put(opponent, false); // 다시 협력 모드로 전환
+                state.betrayalPhase = false; // 다시 협력 모드로 전환
             }
         }
 
@@ -98,6 +93,11 @@ public class Tranquilizer implements Strategy {
         return true;
     }
     
+    @Override
+    public int historyDepth() {
+        return 1; // 직전 라운드만 사용
+    }
+
     @Override
     public Strategy cloneStrategy() {
         return new Tranquilizer();
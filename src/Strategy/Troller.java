@@ -1,8 +1,5 @@
 package Strategy;
 
-import java.util.List;
-import java.util.Random;
-
 /**
  * 전략 이름: Troller  
  * 전략 유형: 랜덤형 + 협력형 (감정적인 기분파, 예측 불가능한 장난꾸러기)
@@ -35,23 +32,27 @@ import java.util.Random;
 */
 
 public class Troller implements Strategy {
-    private final Random random = new Random();
 
     @Override
-    public boolean choose(Player self, Player opponent, List<Boolean> opponentHistory) {
+    public boolean choose(Player self, Player opponent, PairHistory opponentHistory) {
         if (opponentHistory.isEmpty()) {
-            return random.nextBoolean(); // 첫 라운드는 랜덤
+            return opponentHistory.random().nextBoolean(); // 첫 라운드는 랜덤
         }
 
         boolean opponentLastMove = opponentHistory.get(opponentHistory.size() - 1);
 
         if (opponentLastMove) {
-            return random.nextDouble() < 0.75; // 상대가 협력하면 75% 확률로 협력
+            return opponentHistory.random().nextDouble() < 0.75; // 상대가 협력하면 75% 확률로 협력
         } else {
-            return random.nextDouble() < 0.25; // 상대가 배신하면 25% 확률로 배신
+            return opponentHistory.random().nextDouble() < 0.25; // 상대가 배신하면 25% 확률로 배신
         }
     }
 
+    @Override
+    public int historyDepth() {
+        return 1; // 직전 라운드만 사용
+    }
+
     @Override
     public Strategy cloneStrategy() {
         return new Troller();
@@ -1,9 +1,5 @@
 package Strategy;
 
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-
 /**
  * 전략 이름: TwoTitsForTat  
  * 전략 유형: 보복형 (확장형 Tit-for-Tat, 강화된 응징자)
@@ -36,11 +32,22 @@ import java.util.Map;
 */
 
 public class TwoTitsForTat implements Strategy {
+    // 0: 협력, 1: 배신(보복 1회 남음), 2: 배신(보복 끝)
+    private static final Machine MACHINE = Machine.onOpponent(new boolean[] {true, false, false}, new int[] {0, 2, 0}, new int[] {1, 1, 1});
 
-    private final Map<Player, Integer> opponentPunishmentCount = new HashMap<>(); // 각 상대별 보복 횟수 저장
+    // 상대별 상태
+    private static final class State {
+        int punishmentCount; // 보복 횟수 저장
+    }
 
     @Override
-    public boolean choose(Player self, Player opponent, List<Boolean> opponentHistory) {
+    public Object newPairState() {
+        return new State();
+    }
+
+    @Override
+    public boolean choose(Player self, Player opponent, PairHistory opponentHistory) {
+        State state = opponentHistory.state();
         // 첫 번째 라운드는 기본적으로 협력(C)
         if (opponentHistory.isEmpty()) {
             return true;
@@ -51,13 +58,13 @@ public class TwoTitsForTat implements Strategy {
 
         // 상대가 직전 라운드에서 배신(D)했다면, 두 번 연속으로 배신하도록 설정
         if (!lastMove) {
-            opponentPunishmentCount.put(opponent, 2); // 보복 횟수 2회 설정
+            state.punishmentCount = 2; // 보복 횟수 2회 설정
         }
 
         // 보복 횟수가 남아 있다면, 배신(D) 실행
-        int remainingPunishments = opponentPunishmentCount.getOrDefault(opponent, 0);
+        int remainingPunishments = state.punishmentCount;
         if (remainingPunishments > 0) {
-            opponentPunishmentCount.put(opponent, remainingPunishments - 1); // 1 감소
+            state.punishmentCount = remainingPunishments - 1; // 1 감소
             return false; // 배신 실행
         }
 
@@ -65,6 +72,22 @@ public class TwoTitsForTat implements Strategy {
         return lastMove;
     }
     
+    @Override
+    public long stateFingerprint(Player opponent, PairHistory opponentHistory) {
+        State state = opponentHistory.state();
+        return state.punishmentCount; // 남은 보복 횟수
+    }
+
+    @Override
+    public Machine machine() {
+        return MACHINE;
+    }
+
+    @Override
+    public int historyDepth() {
+        return 1; // 직전 라운드만 사용
+    }
+
     @Override
     public Strategy cloneStrategy() {
         return new TwoTitsForTat();
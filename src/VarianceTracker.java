@@ -0,0 +1,112 @@
+import Strategy.*;
+import java.util.*;
+
+// 탈락 판정(두 플레이어의 게임당 평균 점수 차)의 분산 추정 (Game에서 표본으로 치른 쌍 기준)
+// - 표본 단위: 독립 추출이면 게임 하나, 대조 변량이면 같은 시드의 게임 두 개 (단위끼리는 독립)
+// - 실제 분산: 단위별 점수 차의 표본 분산 / 단위 수
+// - 독립 추출이었을 때의 분산: 경기 하나의 분포는 추출 방식과 무관하므로, 경기별 점수 분산을 더해 추정
+//   (독립 추출이면 서로 다른 경기의 점수는 독립)
+// - 두 값의 비가 분산 감소 배수 (같은 정밀도를 독립 추출로 얻으려면 필요한 게임 수의 배수)
+class VarianceTracker {
+    private final int roster;
+    private final int unitSize;
+    // 경기별 점수의 합/제곱합 (게임 하나 기준): [a * roster + b] = a가 b에게서 얻은 점수
+    private final double[] pairSums;
+    private final double[] pairSquares;
+    // 같은 경기 두 쪽 점수의 곱의 합: [a * roster + b] (a < b)
+    private final double[] pairProducts;
+    private final List<long[]> units = new ArrayList<>(); // 단위별 플레이어 총점 [id]
+    private long[] current; // 채우는 중인 단위
+    private int inCurrent = 0;
+    private int games = 0;
+
+    VarianceTracker(int roster, int unitSize) {
+        this.roster = roster;
+        this.unitSize = unitSize;
+        this.pairSums = new double[roster * roster];
+        this.pairSquares = new double[roster * roster];
+        this.pairProducts = new double[roster * roster];
+    }
+
+    // 게임 번호 순서대로 호출 (대조 변량이면 짝을 이루는 두 게임이 연달아 와야 함)
+    void add(Game game) {
+        List<Player> gamePlayers = game.getPlayers();
+        if (current == null) {
+            current = new long[roster];
+        }
+        for (int i = 0; i < gamePlayers.size(); i++) {
+            int a = gamePlayers.get(i).getId();
+            for (int j = 0; j < gamePlayers.size(); j++) {
+                if (i == j) {
+                    continue;
+                }
+                int b = gamePlayers.get(j).getId();
+                long score = game.getPairScore(i, j);
+                current[a] += score;
+                pairSums[a * roster + b] += score;
+                pairSquares[a * roster + b] += (double) score * score;
+                if (a < b) {
+                    pairProducts[a * roster + b] += (double) score * game.getPairScore(j, i);
+                }
+            }
+        }
+        games++;
+        if (++inCurrent == unitSize) {
+            units.add(current);
+            current = null;
+            inCurrent = 0;
+        }
+    }
+
+    // a와 b의 게임당 평균 점수 차에 대한 분산 감소 보고 (추정할 수 없으면 null)
+    String report(Player a, Player b) {
+        int m = units.size();
+        if (m < 2) {
+            return null;
+        }
+        int n = m * unitSize; // 단위에 포함된 게임 수
+        double independent = independentVariance(a.getId(), b.getId()) / n;
+        double sampled = unitVariance(a.getId(), b.getId()) / m;
+        if (independent <= 0) {
+            return null;
+        }
+        if (sampled <= 0) {
+            return String.format("분산 감소: %s - %s 점수 차의 표본 분산 없음 (독립 추출 표준오차 %.2f)",
+                a.getName(), b.getName(), Math.sqrt(independent));
+        }
+        double factor = independent / sampled;
+        return String.format("분산 감소: %s - %s 점수 차 %.1f배 (표준오차 %.2f → %.2f, 독립 추출 %d게임 분량)",
+            a.getName(), b.getName(), factor, Math.sqrt(independent), Math.sqrt(sampled), Math.round(n * factor));
+    }
+
+    // 단위별 점수 차(게임당)의 표본 분산
+    private double unitVariance(int a, int b) {
+        double sum = 0, squares = 0;
+        for (long[] unit : units) {
+            double difference = (unit[a] - unit[b]) / (double) unitSize;
+            sum += difference;
+            squares += difference * difference;
+        }
+        int m = units.size();
+        return (squares - sum * sum / m) / (m - 1);
+    }
+
+    // 독립 추출일 때 게임 하나의 점수 차 분산: 서로 다른 경기의 분산은 더하고, a와 b의 경기는 두 쪽의 공분산까지 반영
+    private double independentVariance(int a, int b) {
+        double variance = 0;
+        for (int c = 0; c < roster; c++) {
+            if (c != a && c != b) {
+                variance += pairVariance(a, c) + pairVariance(b, c);
+            }
+        }
+        int low = Math.min(a, b), high = Math.max(a, b);
+        double covariance = (pairProducts[low * roster + high]
+            - pairSums[a * roster + b] * pairSums[b * roster + a] / games) / (games - 1);
+        return variance + pairVariance(a, b) + pairVariance(b, a) - 2 * covariance;
+    }
+
+    private double pairVariance(int a, int b) {
+        double sum = pairSums[a * roster + b];
+        return (pairSquares[a * roster + b] - sum * sum / games) / (games - 1);
+    }
+}